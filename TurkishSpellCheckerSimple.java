@@ -10,7 +10,16 @@ import java.util.List;
 import java.util.ArrayList;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ExecutionException;
 import java.util.Set;
 import java.util.HashSet;
 import java.util.Collections;
@@ -24,9 +33,13 @@ import zemberek.tokenization.Token;
 
 public class TurkishSpellCheckerSimple extends JFrame {
     
-    private TurkishMorphology morphology;
-    private TurkishSpellChecker spellChecker;
-    private TurkishTokenizer tokenizer;
+    // Denetim motoru Zemberek yüklenince kurulur; arayüz motorun istemcilerinden biridir (bkz. SpellCheckEngine)
+    private volatile SpellCheckEngine engine;
+    
+    // Zemberek arka planda yüklenir; denetim bu future tamamlanınca başlayabilir
+    private final CompletableFuture<Void> zemberekReady = new CompletableFuture<>();
+    private volatile String zemberekLoadPhase = "baslatiliyor";
+    private boolean startPendingOnLoad = false;
     
     private JTextArea inputArea;
     private JTextArea outputArea;
@@ -44,9 +57,12 @@ public class TurkishSpellCheckerSimple extends JFrame {
     private DefaultListModel<String> fileListModel;
     private JPanel leftPanel; // Sol panel referansı
     
-    private java.util.Set<String> eliminatedWords = new java.util.LinkedHashSet<>();
+    // Arayüz yazarken denetim iş parçacıkları kilitsiz okuyabilir (bkz. ConcurrentOrderedSet)
+    private final ConcurrentOrderedSet<String> eliminatedWords = new ConcurrentOrderedSet<>();
     private AtomicBoolean isRunning = new AtomicBoolean(false);
     private AtomicBoolean isPaused = new AtomicBoolean(false);
+    // Denetim çalıştırmaları bu zamanlayıcı üzerinden yürür (ham Thread yerine)
+    private final SpellCheckScheduler spellCheckScheduler = new SpellCheckScheduler();
     private AtomicInteger totalWords = new AtomicInteger(0);
     private AtomicInteger processedWords = new AtomicInteger(0);
     
@@ -56,6 +72,7 @@ public class TurkishSpellCheckerSimple extends JFrame {
     private int currentFileIndex = 0;
     private int pausedFileIndex = 0; // Duraklatıldığında hangi dosyada olduğunu hatırla
     private int pausedIncorrectWordIndex = 0; // Duraklatıldığında hangi kelimede olduğunu hatırla
+    private int pausedChunkIndex = 0; // Akış modunda duraklatıldığında hangi parçada olduğunu hatırla
     
     // Ayarlar sistemi
     private Properties settings;
@@ -71,457 +88,3685 @@ public class TurkishSpellCheckerSimple extends JFrame {
     private File lastFileChooserDirectory = new File(System.getProperty("user.home"));
     private boolean showGuideOnStartup = true;
     
+    // Bu boyuttan büyük dosyalar belleğe tamamen alınmadan parça parça işlenir (akış modu)
+    private static final int DEFAULT_STREAMING_THRESHOLD_MB = 32;
+    private int streamingThresholdMB = DEFAULT_STREAMING_THRESHOLD_MB;
+    private boolean memoryMappedReader = true;
+    private boolean liveSpellCheck = true;
+    private static final int STREAMING_CHUNK_CHARS = 1 << 20;
+    
     // Kayıtlı kelimeler sistemi
-    private java.util.Map<String, String> savedWords = new java.util.LinkedHashMap<>();
+    private final ConcurrentOrderedMap<String, String> savedWords = new ConcurrentOrderedMap<>();
     
     // Çalışma alanı sistemi
     private String currentWorkspaceName = null;
     private File currentWorkspaceDir = null;
     
-    // Geri Al özelliği için eylem tanımları
-    private enum UserAction { ACCEPT, IGNORE, PAUSE, ELIMINATE, UNDO, CUSTOM, APPLY_TO_FILE, APPLY_TO_ALL_FILES, STOP }
-    private static class CorrectionResult {
-        UserAction action;
-        String text; // Kabul edilen, özel veya orijinal kelime
+    // Zemberek nesnelerini bir arada yükler; arayüz ve toplu mod aynı başlatmayı kullanır
+    private static class ZemberekComponents {
+        final TurkishMorphology morphology;
+        final TurkishSpellChecker spellChecker;
+        final TurkishTokenizer tokenizer;
         
-        CorrectionResult(UserAction action, String text) {
-            this.action = action;
-            this.text = text;
+        private ZemberekComponents(TurkishMorphology morphology, TurkishSpellChecker spellChecker, TurkishTokenizer tokenizer) {
+            this.morphology = morphology;
+            this.spellChecker = spellChecker;
+            this.tokenizer = tokenizer;
+        }
+        
+        static ZemberekComponents load() throws IOException {
+            TurkishMorphology morphology = TurkishMorphology.createWithDefaults();
+            return new ZemberekComponents(morphology, new TurkishSpellChecker(morphology), TurkishTokenizer.ALL);
         }
     }
     
-    public TurkishSpellCheckerSimple() {
-        // UTF-8 encoding ayarları
-        System.setProperty("file.encoding", "UTF-8");
-        System.setProperty("sun.jnu.encoding", "UTF-8");
+    // Ön tarama sistemi: dosyaları okuma + tokenize + check işi tüm çekirdeklere dağıtılır
+    private static final int PRESCAN_WINDOW = Math.max(64, Runtime.getRuntime().availableProcessors() * 8);
+    private final ForkJoinPool prescanPool = new ForkJoinPool(Runtime.getRuntime().availableProcessors());
+    private final java.util.Map<File, CompletableFuture<PrescanResult>> prescanResults = new ConcurrentHashMap<>();
+    private int prescanNextIndex = 0;
+    
+    // Bir dosyanın (akış modunda bir parçanın) ön tarama sonucu: içerik, token'lar ve Zemberek'in hatalı bulduğu Word token indeksleri
+    private static class PrescanResult {
+        final String content; // kayıtlı kelime ön geçişi uygulanmış içerik
+        final List<Token> tokens;
+        final int[] misspelledTokenIndices;
+        // Kelime tekrar indeksi: misspelledTokenIndices içinde aynı kelimenin bir sonraki konumu (-1: son tekrar).
+        // Bir karar kelimenin tüm tekrarlarına uygulanırken yalnızca bu zincir gezilir.
+        final int[] nextSameWord;
+        final int firstLineNumber; // içeriğin dosyadaki ilk satır numarası
+        final long firstOffset; // içeriğin dosyadaki ilk karakter ofseti
+        final SavedWordAutomaton.Replacements savedReplacements;
         
-        initializeSettings();
-        initializeComponents();
-        initializeZemberek();
-        createDirectories();
-        loadEliminatedWordsIfEnabled();
-        loadSavedWordsIfEnabled();
-
-        if (showGuideOnStartup) {
-            // Use invokeLater to make sure the main frame is visible before the dialog
-            SwingUtilities.invokeLater(() -> showGuideDialog(true));
+        PrescanResult(String content, List<Token> tokens, int[] misspelledTokenIndices, int[] nextSameWord, int firstLineNumber, long firstOffset, SavedWordAutomaton.Replacements savedReplacements) {
+            this.content = content;
+            this.tokens = tokens;
+            this.misspelledTokenIndices = misspelledTokenIndices;
+            this.nextSameWord = nextSameWord;
+            this.firstLineNumber = firstLineNumber;
+            this.firstOffset = firstOffset;
+            this.savedReplacements = savedReplacements;
+        }
+        
+        // content içindeki ofsetin ön geçişten önceki dosyadaki karakter ofseti
+        long fileOffset(int contentOffset) {
+            return firstOffset + savedReplacements.originalOffset(contentOffset);
         }
     }
     
-    private void initializeComponents() {
-        setTitle("Turkce Yazim Denetimi Uygulamasi (Gelismis Versiyon)");
-        setDefaultCloseOperation(JFrame.EXIT_ON_CLOSE);
-        setSize(1200, 800);
-        setLocationRelativeTo(null);
+    // Akış modunda dosyayı paragraf/satır sınırlarına hizalı metin parçaları olarak okur
+    private interface TextChunkSource extends Closeable {
+        // Dosya bittiğinde null döner
+        String nextChunk() throws IOException;
+    }
+    
+    // Tamponlu UTF-8 çözücü üzerinden parça okuyucu; bellekte en fazla bir parça (+ okuma tamponu) tutulur
+    private static class ReaderChunkSource implements TextChunkSource {
+        private final Reader reader;
+        private final int chunkChars;
+        private final char[] buffer = new char[64 * 1024];
+        private final StringBuilder pending = new StringBuilder();
+        private boolean eof = false;
         
-        // Ana panel
-        JPanel mainPanel = new JPanel(new BorderLayout(10, 10));
-        mainPanel.setBorder(BorderFactory.createEmptyBorder(10, 10, 10, 10));
+        ReaderChunkSource(File file, int chunkChars) throws IOException {
+            this.reader = new BufferedReader(new InputStreamReader(new FileInputStream(file), "UTF-8"), buffer.length);
+            this.chunkChars = chunkChars;
+        }
         
-        // Üst panel - Butonlar
-        JPanel topPanel = new JPanel(new FlowLayout(FlowLayout.LEFT));
-        selectFilesButton = new JButton("Dosya Sec");
-        calismalarimButton = new JButton("Calismalarim");
-        startButton = new JButton("Yazim Denetimi Baslat");
-        continueButton = new JButton("Devam Et");
-        continueButton.setEnabled(false);
-        elenenlerButton = new JButton("Elenenler");
-        kayitliKelimelerButton = new JButton("Kayitli Kelimeler");
-        ayarlarButton = new JButton("Ayarlar");
-        klavuzButton = new JButton("Klavuz");
+        @Override
+        public String nextChunk() throws IOException {
+            while (!eof && pending.length() < chunkChars) {
+                int n = reader.read(buffer);
+                if (n < 0) {
+                    eof = true;
+                } else {
+                    pending.append(buffer, 0, n);
+                }
+            }
+            if (pending.length() == 0) {
+                return null;
+            }
+            int cut = (eof && pending.length() <= chunkChars) ? pending.length() : findChunkBoundary(pending, chunkChars);
+            String chunk = pending.substring(0, cut);
+            pending.delete(0, cut);
+            return chunk;
+        }
         
-        topPanel.add(selectFilesButton);
-        topPanel.add(calismalarimButton);
-        topPanel.add(startButton);
-        topPanel.add(continueButton);
-        topPanel.add(elenenlerButton);
-        topPanel.add(kayitliKelimelerButton);
-        topPanel.add(ayarlarButton);
-        topPanel.add(klavuzButton);
+        @Override
+        public void close() throws IOException {
+            reader.close();
+        }
+    }
+    
+    // Bellek eşlemeli (FileChannel.map) parça okuyucu. Dosya MAP_WINDOW_BYTES'lık pencereler halinde eşlenir ve
+    // CharsetDecoder ile artımlı çözülür; ne bayt ne de karakter olarak dosyanın tamamı heap'e alınmaz.
+    private static class MappedChunkSource implements TextChunkSource {
+        private static final long MAP_WINDOW_BYTES = 64L * 1024 * 1024;
         
-        // Sol panel - Dosya listesi
-        leftPanel = new JPanel(new BorderLayout());
-        leftPanel.setBorder(BorderFactory.createTitledBorder("Secilen Dosyalar"));
-        leftPanel.setPreferredSize(new Dimension(250, 0));
+        private final java.nio.channels.FileChannel channel;
+        private final long fileSize;
+        private final int chunkChars;
+        private final java.nio.charset.CharsetDecoder decoder = java.nio.charset.StandardCharsets.UTF_8.newDecoder()
+            .onMalformedInput(java.nio.charset.CodingErrorAction.REPLACE)
+            .onUnmappableCharacter(java.nio.charset.CodingErrorAction.REPLACE);
+        private final java.nio.CharBuffer decoded = java.nio.CharBuffer.allocate(64 * 1024);
+        private final StringBuilder pending = new StringBuilder();
+        private java.nio.MappedByteBuffer window;
+        private long windowStart = 0;
+        private boolean eof = false;
         
-        fileListModel = new DefaultListModel<>();
-        fileList = new JList<>(fileListModel);
-        fileList.setSelectionMode(ListSelectionModel.SINGLE_SELECTION);
+        MappedChunkSource(File file, int chunkChars) throws IOException {
+            this.channel = java.nio.channels.FileChannel.open(file.toPath(), java.nio.file.StandardOpenOption.READ);
+            this.fileSize = channel.size();
+            this.chunkChars = chunkChars;
+        }
         
-        // Dosya listesine tıklama olayı ekle
-        fileList.addListSelectionListener(e -> {
-            if (!e.getValueIsAdjusting() && fileList.getSelectedIndex() >= 0) {
-                loadFile(fileList.getSelectedIndex());
+        @Override
+        public String nextChunk() throws IOException {
+            while (!eof && pending.length() < chunkChars) {
+                decodeMore();
             }
-        });
+            if (pending.length() == 0) {
+                return null;
+            }
+            int cut = (eof && pending.length() <= chunkChars) ? pending.length() : findChunkBoundary(pending, chunkChars);
+            String chunk = pending.substring(0, cut);
+            pending.delete(0, cut);
+            return chunk;
+        }
         
-        JScrollPane fileScrollPane = new JScrollPane(fileList);
-        leftPanel.add(fileScrollPane, BorderLayout.CENTER);
+        private void decodeMore() throws IOException {
+            if (window == null || !window.hasRemaining()) {
+                long start = window == null ? 0 : windowStart + window.position();
+                if (start >= fileSize) {
+                    decoder.decode(java.nio.ByteBuffer.allocate(0), decoded, true);
+                    decoder.flush(decoded);
+                    drainDecoded();
+                    eof = true;
+                    return;
+                }
+                mapWindow(start);
+            }
+            boolean lastWindow = windowStart + window.limit() >= fileSize;
+            java.nio.charset.CoderResult result = decoder.decode(window, decoded, lastWindow);
+            drainDecoded();
+            if (result.isUnderflow() && window.hasRemaining()) {
+                // Pencere sonunda yarım kalmış çok baytlı karakter: kalan baytlardan itibaren yeniden eşle
+                mapWindow(windowStart + window.position());
+            }
+        }
         
-        // Orta panel - Metin alanları
-        JPanel centerPanel = new JPanel(new GridLayout(1, 2, 10, 0));
+        private void mapWindow(long start) throws IOException {
+            long length = Math.min(MAP_WINDOW_BYTES, fileSize - start);
+            window = channel.map(java.nio.channels.FileChannel.MapMode.READ_ONLY, start, length);
+            windowStart = start;
+        }
         
-        // Sol metin alanı - Giriş metni
-        JPanel inputPanel = new JPanel(new BorderLayout());
-        inputPanel.setBorder(BorderFactory.createTitledBorder("Giris Metni"));
-        inputArea = new JTextArea();
-        inputArea.setFont(new Font("Arial", Font.PLAIN, 14));
-        JScrollPane inputScrollPane = new JScrollPane(inputArea);
-        inputPanel.add(inputScrollPane, BorderLayout.CENTER);
+        private void drainDecoded() {
+            decoded.flip();
+            pending.append(decoded);
+            decoded.clear();
+        }
         
-        // Sağ metin alanı - Çıkış metni
-        JPanel outputPanel = new JPanel(new BorderLayout());
-        outputPanel.setBorder(BorderFactory.createTitledBorder("Duzeltilmis Metin"));
-        outputArea = new JTextArea();
-        outputArea.setFont(new Font("Arial", Font.PLAIN, 14));
-        outputArea.setEditable(false);
-        JScrollPane outputScrollPane = new JScrollPane(outputArea);
-        outputPanel.add(outputScrollPane, BorderLayout.CENTER);
+        @Override
+        public void close() throws IOException {
+            window = null;
+            channel.close();
+        }
+    }
+    
+    // Parçayı tercihen boş satırdan (paragraf), yoksa satır sonundan, yoksa boşluktan böler
+    private static int findChunkBoundary(CharSequence text, int limit) {
+        int end = Math.min(limit, text.length());
+        int minimum = end / 2;
+        String window = text.subSequence(0, end).toString();
+        int paragraph = window.lastIndexOf("\n\n");
+        if (paragraph >= minimum) {
+            return paragraph + 2;
+        }
+        int paragraphCrLf = window.lastIndexOf("\n\r\n");
+        if (paragraphCrLf >= minimum) {
+            return paragraphCrLf + 3;
+        }
+        int line = window.lastIndexOf('\n');
+        if (line >= 0) {
+            return line + 1;
+        }
+        for (int i = end - 1; i > 0; i--) {
+            if (Character.isWhitespace(window.charAt(i))) {
+                return i + 1;
+            }
+        }
+        // Vekil (surrogate) çiftini bölme
+        return Character.isHighSurrogate(window.charAt(end - 1)) ? end - 1 : end;
+    }
+    
+    // Kelime doğruluk önbelleği: aynı çekimli kelimeler için morfolojik analiz tekrar yapılmaz
+    private static final int CHECK_CACHE_SIZE = 200_000;
+    
+    // spellChecker.check sonuçları için boyutu sınırlı LRU önbellek.
+    // Paralel ön taramada kilit çekişmesini azaltmak için kelimeler hash'lerine göre segmentlere dağıtılır.
+    private static class WordVerdictCache {
+        private static final int SEGMENT_COUNT = 16;
         
-        centerPanel.add(inputPanel);
-        centerPanel.add(outputPanel);
+        private static class Segment extends java.util.LinkedHashMap<String, Boolean> {
+            private static final long serialVersionUID = 1L;
+            private final int maxSize;
+            
+            Segment(int maxSize) {
+                super(16, 0.75f, true); // erişim sırası = LRU
+                this.maxSize = maxSize;
+            }
+            
+            @Override
+            protected boolean removeEldestEntry(java.util.Map.Entry<String, Boolean> eldest) {
+                return size() > maxSize;
+            }
+        }
         
-        // Alt panel - İlerleme ve durum
-        JPanel bottomPanel = new JPanel(new BorderLayout());
-        progressBar = new JProgressBar(0, 100);
-        statusLabel = new JLabel("Hazir");
-        bottomPanel.add(progressBar, BorderLayout.CENTER);
-        bottomPanel.add(statusLabel, BorderLayout.SOUTH);
+        private final Segment[] segments = new Segment[SEGMENT_COUNT];
+        private final java.util.function.Predicate<String> checker;
+        private final AtomicLong hits = new AtomicLong();
+        private final AtomicLong misses = new AtomicLong();
         
-        // Ana panel düzeni
-        JPanel contentPanel = new JPanel(new BorderLayout(10, 0));
-        contentPanel.add(leftPanel, BorderLayout.WEST);
-        contentPanel.add(centerPanel, BorderLayout.CENTER);
+        WordVerdictCache(int maxSize, java.util.function.Predicate<String> checker) {
+            this.checker = checker;
+            int segmentSize = Math.max(1, maxSize / SEGMENT_COUNT);
+            for (int i = 0; i < SEGMENT_COUNT; i++) {
+                segments[i] = new Segment(segmentSize);
+            }
+        }
         
-        mainPanel.add(topPanel, BorderLayout.NORTH);
-        mainPanel.add(contentPanel, BorderLayout.CENTER);
-        mainPanel.add(bottomPanel, BorderLayout.SOUTH);
+        private Segment segmentFor(String word) {
+            int h = word.hashCode();
+            return segments[(h ^ (h >>> 16)) & (SEGMENT_COUNT - 1)];
+        }
         
-        add(mainPanel);
+        boolean check(String word) {
+            Segment segment = segmentFor(word);
+            Boolean verdict;
+            synchronized (segment) {
+                verdict = segment.get(word);
+            }
+            if (verdict != null) {
+                hits.incrementAndGet();
+                return verdict;
+            }
+            misses.incrementAndGet();
+            // Analizi kilit dışında yap; aynı kelime iki kez hesaplanabilir ama sonuç aynıdır
+            boolean result = checker.test(word);
+            synchronized (segment) {
+                segment.put(word, result);
+            }
+            return result;
+        }
         
-        // Event listeners
-        selectFilesButton.addActionListener(e -> selectFiles(false));
-        calismalarimButton.addActionListener(e -> showWorkspaceDialog());
-        startButton.addActionListener(e -> startSpellChecking());
-        continueButton.addActionListener(e -> continueSpellChecking());
-        elenenlerButton.addActionListener(e -> showEliminatedWordsDialog());
-        kayitliKelimelerButton.addActionListener(e -> showSavedWordsDialog());
-        ayarlarButton.addActionListener(e -> showSettingsDialog());
-        klavuzButton.addActionListener(e -> showGuideDialog(false));
+        long getHitCount() {
+            return hits.get();
+        }
         
-        // Uygulama kapatılırken elenenler listesini kaydet
-        addWindowListener(new java.awt.event.WindowAdapter() {
-            @Override
-            public void windowClosing(java.awt.event.WindowEvent e) {
-                saveEliminatedWordsOnExit();
-                saveSavedWordsOnExit();
-                
-                // Eğer aktif bir çalışma alanı varsa, işlenmiş dosyaları Tarandi klasörüne taşı
-                if (currentWorkspaceDir != null && !selectedFiles.isEmpty()) {
-                    try {
-                        File taranacakDir = new File(currentWorkspaceDir, "Taranacak");
-                        File tarandiDir = new File(currentWorkspaceDir, "Tarandi");
-                        File workspaceSonucDir = new File(currentWorkspaceDir, "Sonuc");
-                        
-                        // Çalışma alanının Sonuc klasöründeki dosyaları kontrol et ve Tarandi klasörüne taşı
-                        if (workspaceSonucDir.exists()) {
-                            File[] workspaceSonucFiles = workspaceSonucDir.listFiles();
-                            if (workspaceSonucFiles != null) {
-                                for (File workspaceSonucFile : workspaceSonucFiles) {
-                                    // Bu dosya seçili dosyalar arasında mı kontrol et
-                                    boolean isSelectedFile = false;
-                                    for (File selectedFile : selectedFiles) {
-                                        if (selectedFile.getName().equals(workspaceSonucFile.getName())) {
-                                            isSelectedFile = true;
-                                            break;
-                                        }
-                                    }
-                                    
-                                    if (isSelectedFile) {
-                                        // Dosyayı Tarandi klasörüne taşı
-                                        File destFile = new File(tarandiDir, workspaceSonucFile.getName());
-                                        if (!destFile.exists()) {
-                                            Files.move(workspaceSonucFile.toPath(), destFile.toPath(), java.nio.file.StandardCopyOption.REPLACE_EXISTING);
-                                        }
-                                    }
-                                }
-                            }
-                        }
-                    } catch (IOException ex) {
-                        System.err.println("Calisma alani dosyalari tasinirken hata: " + ex.getMessage());
-                    }
+        long getMissCount() {
+            return misses.get();
+        }
+        
+        int size() {
+            int total = 0;
+            for (Segment segment : segments) {
+                synchronized (segment) {
+                    total += segment.size();
                 }
             }
-        });
-    }
-    
-    private void updateLeftPanelTitle() {
-        if (currentWorkspaceDir != null && currentWorkspaceName != null) {
-            leftPanel.setBorder(BorderFactory.createTitledBorder("Secilen Dosyalar - " + currentWorkspaceName));
-        } else {
-            leftPanel.setBorder(BorderFactory.createTitledBorder("Secilen Dosyalar"));
+            return total;
+        }
+        
+        String getStatsText() {
+            long h = hits.get();
+            long total = h + misses.get();
+            int ratio = total == 0 ? 0 : (int) Math.round(h * 100.0 / total);
+            return "Onbellek: " + h + " isabet / " + (total - h) + " iska (%" + ratio + "), " + size() + " kelime";
         }
-        leftPanel.revalidate();
-        leftPanel.repaint();
     }
     
-    private void initializeZemberek() {
-        try {
-            statusLabel.setText("Zemberek yukleniyor...");
-            
-            // Zemberek'i başlat
-            morphology = TurkishMorphology.createWithDefaults();
-            spellChecker = new TurkishSpellChecker(morphology);
-            tokenizer = TurkishTokenizer.ALL;
+    // Oturumlar arası kalıcı kelime doğruluk deposu: önceki çalışmalarda Zemberek'in verdiği kararlar tekrar hesaplanmaz
+    private static final String VERDICT_STORE_FILE = "Ayarlar/kelime_kararlari.txt";
+    private volatile VerdictStore verdictStore;
+    
+    // Kelime -> doğru/hatalı kararlarını diske ekleyerek saklar.
+    // Dosya biçimi: ilk satır sürüm + sözlük parmak izi, sonra "+kelime" (doğru), "-kelime" (hatalı); eski sürümlerin
+    // yazdığı "?kelime" (geçersiz) satırları okunurken kararı siler. Parmak izi tutmazsa (Zemberek sözlüğü değişmiş) depo
+    // baştan kurulur. Tüm disk işleri tek bir arka plan iş parçacığında yapılır.
+    // Depo en fazla MAX_VERDICTS karar tutar: aşılınca sıkıştırmada en uzun süredir kullanılmayanlar atılır. Dosya
+    // en eskiden en yeniye yazıldığı için sonraki açılışta da kullanım sırası korunur.
+    private static class VerdictStore {
+        private static final String HEADER_PREFIX = "#kelime-kararlari v1 ";
+        private static final int COMPACT_MIN_RECORDS = 50_000;
+        private static final int FLUSH_EVERY_RECORDS = 1_000;
+        private static final int MAX_VERDICTS = 300_000;
+        private static final int TRIMMED_VERDICTS = MAX_VERDICTS * 3 / 4;
+        
+        private static final class Verdict {
+            final boolean correct;
+            volatile long lastUsed;
             
-            statusLabel.setText("Zemberek yuklendi - Hazir");
-        } catch (Exception e) {
-            JOptionPane.showMessageDialog(this, 
-                "Zemberek kutuphanesi yuklenirken hata olustu: " + e.getMessage() + "\n\n" +
-                "Lutfen zemberek klasorunun bu dizinde oldugundan emin olun.",
-                "Hata", JOptionPane.ERROR_MESSAGE);
-            statusLabel.setText("Zemberek yuklenemedi");
-            e.printStackTrace();
+            Verdict(boolean correct, long lastUsed) {
+                this.correct = correct;
+                this.lastUsed = lastUsed;
+            }
         }
-    }
-    
-    private void createDirectories() {
-        try {
-            Files.createDirectories(Paths.get("Sonuc"));
-            Files.createDirectories(Paths.get("Duzeltmeler"));
-            Files.createDirectories(Paths.get("Elenenler"));
-            Files.createDirectories(Paths.get("KayitliKelimeler"));
-            Files.createDirectories(Paths.get("Ayarlar"));
-        } catch (IOException e) {
-            JOptionPane.showMessageDialog(this, 
-                "Klasorler olusturulurken hata: " + e.getMessage(),
-                "Hata", JOptionPane.ERROR_MESSAGE);
+        
+        private final File file;
+        private final String header;
+        private final ConcurrentHashMap<String, Verdict> verdicts = new ConcurrentHashMap<>();
+        private final AtomicLong clock = new AtomicLong();
+        private final ExecutorService io = Executors.newSingleThreadExecutor(r -> {
+            Thread thread = new Thread(r, "karar-deposu");
+            thread.setDaemon(true);
+            return thread;
+        });
+        private final CompletableFuture<Integer> loaded;
+        // Aşağıdakilere yalnızca io iş parçacığından erişilir
+        private BufferedWriter appender;
+        private int recordsInFile = 0;
+        private int unflushed = 0;
+        
+        VerdictStore(File file, String fingerprint) {
+            this.file = file;
+            this.header = HEADER_PREFIX + fingerprint;
+            // Tembel yükleme: depo arka planda okunur, o sırada gelen sorgular doğrudan Zemberek'e gider
+            this.loaded = CompletableFuture.supplyAsync(this::load, io);
         }
-    }
-    
-    private void initializeSettings() {
-        settings = new Properties();
-        settingsFile = new File("Ayarlar/ayarlar.txt");
         
-        // Varsayılan ayarlar
-        settings.setProperty("autoLoadEliminatedWords", "true");
-        settings.setProperty("autoSaveEliminatedWords", "false");
-        settings.setProperty("saveOnlyOnExit", "true");
-        settings.setProperty("autoLoadSavedWords", "true");
-        settings.setProperty("autoSaveSavedWords", "false");
-        settings.setProperty("saveSavedWordsOnlyOnExit", "true");
-        settings.setProperty("lastFileChooserDirectory", System.getProperty("user.home"));
-        settings.setProperty("showGuideOnStartup", "true");
+        // Zemberek sürümü ve kök sözlük boyutundan parmak izi üretir
+        static String lexiconFingerprint(TurkishMorphology morphology) {
+            String version = TurkishMorphology.class.getPackage() == null ? null : TurkishMorphology.class.getPackage().getImplementationVersion();
+            return "zemberek=" + (version == null ? "?" : version) + " sozluk=" + morphology.getLexicon().size();
+        }
         
-        // Ayarlar dosyası varsa yükle
-        if (settingsFile.exists()) {
-            try (BufferedReader reader = new BufferedReader(new InputStreamReader(new FileInputStream(settingsFile), "UTF-8"))) {
-                // Manuel olarak dosyayı oku (Properties.load() yerine)
-                String line;
-                while ((line = reader.readLine()) != null) {
-                    line = line.trim();
-                    if (!line.isEmpty() && !line.startsWith("#") && line.contains("=")) {
-                        String[] parts = line.split("=", 2);
-                        if (parts.length == 2) {
-                            String key = parts[0].trim();
-                            String value = parts[1].trim();
-                            settings.setProperty(key, value);
+        private int load() {
+            int records = 0;
+            boolean valid = false;
+            if (file.exists()) {
+                try (BufferedReader reader = new BufferedReader(new InputStreamReader(new FileInputStream(file), "UTF-8"))) {
+                    valid = header.equals(reader.readLine());
+                    String line;
+                    while (valid && (line = reader.readLine()) != null) {
+                        if (line.length() < 2) {
+                            continue; // Yarım yazılmış satır
                         }
+                        String word = line.substring(1);
+                        switch (line.charAt(0)) {
+                            case '+': verdicts.put(word, new Verdict(true, clock.incrementAndGet())); break;
+                            case '-': verdicts.put(word, new Verdict(false, clock.incrementAndGet())); break;
+                            case '?': verdicts.remove(word); break;
+                            default: continue;
+                        }
+                        records++;
                     }
+                } catch (IOException e) {
+                    System.err.println("Kelime karar deposu okunurken hata: " + e.getMessage());
+                    valid = false;
                 }
-                
-                // Ayarları yeni sırayla oku (kaydetme sırasıyla aynı)
-                autoLoadEliminatedWords = Boolean.parseBoolean(settings.getProperty("autoLoadEliminatedWords", "false"));
-                autoSaveEliminatedWords = Boolean.parseBoolean(settings.getProperty("autoSaveEliminatedWords", "false"));
-                saveOnlyOnExit = Boolean.parseBoolean(settings.getProperty("saveOnlyOnExit", "false"));
-                autoLoadSavedWords = Boolean.parseBoolean(settings.getProperty("autoLoadSavedWords", "false"));
-                autoSaveSavedWords = Boolean.parseBoolean(settings.getProperty("autoSaveSavedWords", "false"));
-                saveSavedWordsOnlyOnExit = Boolean.parseBoolean(settings.getProperty("saveSavedWordsOnlyOnExit", "false"));
-                showGuideOnStartup = Boolean.parseBoolean(settings.getProperty("showGuideOnStartup", "true"));
-                
-                // Son dosya seçim konumunu yükle (en son)
-                String lastDir = settings.getProperty("lastFileChooserDirectory", System.getProperty("user.home"));
-                System.out.println("Ayarlardan okunan lastFileChooserDirectory: " + lastDir);
-                File lastDirFile = new File(lastDir);
-                if (lastDirFile.exists() && lastDirFile.isDirectory()) {
-                    lastFileChooserDirectory = lastDirFile;
-                    System.out.println("lastFileChooserDirectory başarıyla ayarlandı: " + lastFileChooserDirectory.getAbsolutePath());
+            }
+            try {
+                if (valid && verdicts.size() <= MAX_VERDICTS) {
+                    recordsInFile = records;
+                    appender = new BufferedWriter(new OutputStreamWriter(new FileOutputStream(file, true), "UTF-8"));
                 } else {
-                    System.out.println("lastFileChooserDirectory geçersiz veya bulunamadı: " + lastDir);
+                    // Sözlük değişmiş ya da dosya yok/bozuk: eski kayıtlar atılır, dosya baştan yazılır.
+                    // Sınırı aşan (sınırdan önceki sürümün yazdığı) dosya da en yeni kararlara kırpılır.
+                    compact();
                 }
             } catch (IOException e) {
-                System.err.println("Ayarlar dosyasi okunurken hata: " + e.getMessage());
+                System.err.println("Kelime karar deposu acilamadi: " + e.getMessage());
             }
+            return verdicts.size();
         }
-    }
-    
-    private void loadEliminatedWordsIfEnabled() {
-        if (autoLoadEliminatedWords) {
-            File eliminatedWordsFile = new File("Elenenler/elenenler.txt");
-            if (eliminatedWordsFile.exists()) {
-                try (BufferedReader reader = new BufferedReader(new InputStreamReader(new FileInputStream(eliminatedWordsFile), "UTF-8"))) {
-                    String line;
-                    int count = 0;
-                    // Dosyadan okunan sırayı korumak için önce listeye ekle
-                    List<String> wordsFromFile = new ArrayList<>();
-                    while ((line = reader.readLine()) != null) {
-                        String word = line.trim();
-                        if (!word.isEmpty()) {
-                            wordsFromFile.add(word);
-                        }
+        
+        CompletableFuture<Integer> whenLoaded() {
+            return loaded;
+        }
+        
+        Boolean get(String word) {
+            Verdict verdict = verdicts.get(word);
+            if (verdict == null) {
+                return null;
+            }
+            verdict.lastUsed = clock.incrementAndGet();
+            return verdict.correct;
+        }
+        
+        void record(String word, boolean correct) {
+            if (verdicts.putIfAbsent(word, new Verdict(correct, clock.incrementAndGet())) == null) {
+                append((correct ? "+" : "-") + word);
+            }
+        }
+        
+        int size() {
+            return verdicts.size();
+        }
+        
+        private void append(String line) {
+            try {
+                io.execute(() -> {
+                    if (appender == null) {
+                        return;
                     }
-                    
-                    // Dosyadan okunan kelimeleri sırayla HashSet'e ekle (LinkedHashSet sırayı korur)
-                    for (String word : wordsFromFile) {
-                        if (eliminatedWords.add(word)) {
-                            count++;
+                    try {
+                        appender.write(line);
+                        appender.newLine();
+                        recordsInFile++;
+                        if (++unflushed >= FLUSH_EVERY_RECORDS) {
+                            appender.flush();
+                            unflushed = 0;
                         }
+                        // Yinelenen kayıtlar birikince ya da sınır aşılınca dosyayı yeniden yaz
+                        if (recordsInFile > Math.max(COMPACT_MIN_RECORDS, verdicts.size() * 2) || verdicts.size() > MAX_VERDICTS) {
+                            compact();
+                        }
+                    } catch (IOException e) {
+                        System.err.println("Kelime karar deposuna yazilamadi: " + e.getMessage());
                     }
-                    
-                    if (count > 0) {
-                        statusLabel.setText(count + " elenen kelime yuklendi");
-                    }
-                } catch (IOException e) {
-                    System.err.println("Elenenler dosyasi okunurken hata: " + e.getMessage());
+                });
+            } catch (java.util.concurrent.RejectedExecutionException e) {
+                // Depo kapatıldı
+            }
+        }
+        
+        // Canlı kararları en eski kullanılandan başlayarak geçici dosyaya yazıp atomik olarak yerine taşır;
+        // sınır aşıldıysa önce en uzun süredir kullanılmayanlar TRIMMED_VERDICTS'e inene kadar atılır
+        private void compact() throws IOException {
+            if (appender != null) {
+                appender.close();
+                appender = null;
+            }
+            File parent = file.getAbsoluteFile().getParentFile();
+            if (parent != null) {
+                parent.mkdirs();
+            }
+            File temp = new File(file.getPath() + ".tmp");
+            // lastUsed sıralama sırasında değişebilir; sıralama anlık değerler üzerinden yapılır
+            int count = verdicts.size();
+            List<String> words = new ArrayList<>(count);
+            List<Verdict> values = new ArrayList<>(count);
+            List<long[]> order = new ArrayList<>(count);
+            for (java.util.Map.Entry<String, Verdict> entry : verdicts.entrySet()) {
+                order.add(new long[] {entry.getValue().lastUsed, words.size()});
+                words.add(entry.getKey());
+                values.add(entry.getValue());
+            }
+            order.sort((a, b) -> Long.compare(a[0], b[0]));
+            int drop = order.size() > MAX_VERDICTS ? order.size() - TRIMMED_VERDICTS : 0;
+            for (int i = 0; i < drop; i++) {
+                int index = (int) order.get(i)[1];
+                verdicts.remove(words.get(index), values.get(index));
+            }
+            int records = 0;
+            try (BufferedWriter writer = new BufferedWriter(new OutputStreamWriter(new FileOutputStream(temp), "UTF-8"))) {
+                writer.write(header);
+                writer.newLine();
+                for (int i = drop; i < order.size(); i++) {
+                    int index = (int) order.get(i)[1];
+                    writer.write((values.get(index).correct ? "+" : "-") + words.get(index));
+                    writer.newLine();
+                    records++;
                 }
             }
+            Files.move(temp.toPath(), file.toPath(), java.nio.file.StandardCopyOption.REPLACE_EXISTING, java.nio.file.StandardCopyOption.ATOMIC_MOVE);
+            recordsInFile = records;
+            unflushed = 0;
+            appender = new BufferedWriter(new OutputStreamWriter(new FileOutputStream(file, true), "UTF-8"));
         }
-    }
-    
-    private void loadSavedWordsIfEnabled() {
-        if (autoLoadSavedWords) {
-            File savedWordsFile = new File("KayitliKelimeler/kayitlikelimeler.txt");
-            if (savedWordsFile.exists()) {
-                try (BufferedReader reader = new BufferedReader(new InputStreamReader(new FileInputStream(savedWordsFile), "UTF-8"))) {
-                    String line;
-                    int count = 0;
-                    while ((line = reader.readLine()) != null) {
-                        line = line.trim();
-                        if (!line.isEmpty() && line.contains("=")) {
-                            String[] parts = line.split("=", 2);
-                            if (parts.length == 2) {
-                                String wrongWord = parts[0].trim();
-                                String correctWord = parts[1].trim();
-                                if (!wrongWord.isEmpty() && !correctWord.isEmpty()) {
-                                    savedWords.put(wrongWord, correctWord);
-                                    count++;
-                                }
+        
+        // Bekleyen kayıtları yazar, gerekirse sıkıştırır ve dosyayı kapatır
+        void close() {
+            try {
+                io.execute(() -> {
+                    try {
+                        if (appender != null) {
+                            if (recordsInFile > verdicts.size() + verdicts.size() / 4) {
+                                compact();
                             }
+                            appender.close();
+                            appender = null;
                         }
+                    } catch (IOException e) {
+                        System.err.println("Kelime karar deposu kapatilirken hata: " + e.getMessage());
                     }
-                    if (count > 0) {
-                        System.out.println(count + " kayitli kelime yuklendi");
+                });
+            } catch (java.util.concurrent.RejectedExecutionException e) {
+                return;
+            }
+            io.shutdown();
+            try {
+                io.awaitTermination(5, java.util.concurrent.TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+    
+    // Öneri önbelleği: suggestForWord sonuçları oturum boyunca tüm dosyalar arasında paylaşılır
+    private static final int SUGGESTION_CACHE_MAX_CHARS = 4_000_000;
+    
+    // Yanlış kelime -> öneri listesi için bellek sınırlı LRU önbellek.
+    // Boyut, kelime ve önerilerin toplam karakter sayısı ile ölçülür; sınır aşılınca en eski kullanılan çıkarılır.
+    private static class SuggestionCache {
+        private final java.util.LinkedHashMap<String, List<String>> entries = new java.util.LinkedHashMap<>(256, 0.75f, true);
+        private final java.util.function.Function<String, List<String>> loader;
+        private final long maxChars;
+        private long currentChars = 0;
+        private long generation = 0; // invalidate/clear sonrası eski hesapların yazılmasını engeller
+        private final AtomicLong hits = new AtomicLong();
+        private final AtomicLong misses = new AtomicLong();
+        
+        SuggestionCache(long maxChars, java.util.function.Function<String, List<String>> loader) {
+            this.maxChars = maxChars;
+            this.loader = loader;
+        }
+        
+        List<String> get(String word) {
+            long startGeneration;
+            synchronized (this) {
+                List<String> cached = entries.get(word);
+                if (cached != null) {
+                    hits.incrementAndGet();
+                    return cached;
+                }
+                startGeneration = generation;
+            }
+            misses.incrementAndGet();
+            List<String> suggestions = Collections.unmodifiableList(new ArrayList<>(loader.apply(word)));
+            synchronized (this) {
+                if (startGeneration == generation) {
+                    List<String> previous = entries.put(word, suggestions);
+                    if (previous != null) {
+                        currentChars -= weightOf(word, previous);
                     }
-                } catch (IOException e) {
-                    System.err.println("Kayitli kelimeler dosyasi okunurken hata: " + e.getMessage());
+                    currentChars += weightOf(word, suggestions);
+                    evictIfNeeded();
                 }
             }
+            return suggestions;
+        }
+        
+        synchronized void invalidate(String word) {
+            List<String> removed = entries.remove(word);
+            if (removed != null) {
+                currentChars -= weightOf(word, removed);
+            }
+            generation++;
+        }
+        
+        synchronized void clear() {
+            entries.clear();
+            currentChars = 0;
+            generation++;
+        }
+        
+        private void evictIfNeeded() {
+            java.util.Iterator<java.util.Map.Entry<String, List<String>>> it = entries.entrySet().iterator();
+            while (currentChars > maxChars && it.hasNext()) {
+                java.util.Map.Entry<String, List<String>> eldest = it.next();
+                currentChars -= weightOf(eldest.getKey(), eldest.getValue());
+                it.remove();
+            }
+        }
+        
+        private static long weightOf(String word, List<String> suggestions) {
+            long weight = word.length();
+            for (String suggestion : suggestions) {
+                weight += suggestion.length();
+            }
+            return weight;
+        }
+        
+        long getHitCount() {
+            return hits.get();
+        }
+        
+        long getMissCount() {
+            return misses.get();
         }
     }
     
-    private void saveSavedWords() {
-        File savedWordsFile = new File("KayitliKelimeler/kayitlikelimeler.txt");
-        try (BufferedWriter writer = new BufferedWriter(new OutputStreamWriter(new FileOutputStream(savedWordsFile), "UTF-8"))) {
-            // En son eklenen en üstte olacak şekilde kaydet
-            List<java.util.Map.Entry<String, String>> entries = new ArrayList<>(savedWords.entrySet());
-            Collections.reverse(entries);
-            for (java.util.Map.Entry<String, String> entry : entries) {
-                writer.write(entry.getKey() + "=" + entry.getValue());
-                writer.newLine();
+    // Düzeltme penceresi açıkken sıradaki hatalı kelimelerin önerileri arka planda hesaplanır
+    private static final int PREFETCH_LOOKAHEAD = 3;
+    
+    // Öneri önbelleğini sıradaki kelimeler için önceden dolduran arka plan hesaplayıcısı
+    private static class SuggestionPrefetcher {
+        private final SuggestionCache cache;
+        private final ExecutorService executor;
+        private final java.util.Map<String, Future<List<String>>> pending = new ConcurrentHashMap<>();
+        
+        SuggestionPrefetcher(SuggestionCache cache, int threadCount) {
+            this.cache = cache;
+            this.executor = Executors.newFixedThreadPool(threadCount, runnable -> {
+                Thread thread = new Thread(runnable, "oneri-onyukleme");
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+        
+        void prefetch(String word) {
+            pending.computeIfAbsent(word, w -> executor.submit(() -> cache.get(w)));
+        }
+        
+        // Önceden hesaplanmışsa bekler, değilse aynı thread'de hesaplar
+        List<String> get(String word) {
+            Future<List<String>> future = pending.remove(word);
+            if (future != null && !future.isCancelled()) {
+                try {
+                    return future.get();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } catch (ExecutionException e) {
+                    System.err.println("Oneri on hesaplamasi basarisiz: " + e.getCause());
+                }
+            }
+            return cache.get(word);
+        }
+        
+        void cancel(String word) {
+            Future<List<String>> future = pending.remove(word);
+            if (future != null) {
+                future.cancel(true);
+            }
+        }
+        
+        void cancelAll() {
+            for (String word : new ArrayList<>(pending.keySet())) {
+                cancel(word);
             }
-        } catch (IOException e) {
-            System.err.println("Kayitli kelimeler dosyasi yazilirken hata: " + e.getMessage());
+        }
+        
+        void shutdown() {
+            cancelAll();
+            executor.shutdownNow();
         }
     }
     
-    private void saveEliminatedWordsIfEnabled() {
-        if (autoSaveEliminatedWords && !saveOnlyOnExit) {
-            File eliminatedWordsFile = new File("Elenenler/elenenler.txt");
-            try (BufferedWriter writer = new BufferedWriter(new OutputStreamWriter(new FileOutputStream(eliminatedWordsFile), "UTF-8"))) {
-                // En son eklenen en başta olacak şekilde kaydet
-                List<String> wordsList = new ArrayList<>(eliminatedWords);
-                Collections.reverse(wordsList);
-                for (String word : wordsList) {
-                    writer.write(word);
-                    writer.newLine();
+    // Dosya başına bir kez kurulan token -> satır indeksi.
+    // Satır numarası ve satır içeriği, satır sonu konumları üzerinde ikili arama ile bulunur.
+    private static class LineIndex {
+        private final String text;
+        private final int[] tokenStarts;
+        private final int[] newlinePositions;
+        private final int firstLineNumber;
+        
+        LineIndex(String text, List<String> tokens) {
+            this(text, tokens, 1);
+        }
+        
+        LineIndex(String text, List<String> tokens, int firstLineNumber) {
+            this.text = text;
+            this.firstLineNumber = firstLineNumber;
+            this.tokenStarts = new int[tokens.size()];
+            int offset = 0;
+            for (int i = 0; i < tokens.size(); i++) {
+                tokenStarts[i] = offset;
+                offset += tokens.get(i).length();
+            }
+            int[] positions = new int[64];
+            int count = 0;
+            for (int i = text.indexOf('\n'); i >= 0; i = text.indexOf('\n', i + 1)) {
+                if (count == positions.length) {
+                    positions = java.util.Arrays.copyOf(positions, count * 2);
                 }
-            } catch (IOException e) {
-                System.err.println("Elenenler dosyasi yazilirken hata: " + e.getMessage());
+                positions[count++] = i;
+            }
+            this.newlinePositions = java.util.Arrays.copyOf(positions, count);
+        }
+        
+        int tokenStart(int tokenIndex) {
+            return tokenStarts[tokenIndex];
+        }
+        
+        // 1 tabanlı satır numarası: ofsetten önceki satır sonu sayısı + ilk satır numarası
+        int lineNumberAt(int offset) {
+            int pos = java.util.Arrays.binarySearch(newlinePositions, offset);
+            int newlinesBefore = pos >= 0 ? pos : -pos - 1;
+            return newlinesBefore + firstLineNumber;
+        }
+        
+        int lineNumberOfToken(int tokenIndex) {
+            return lineNumberAt(tokenStarts[tokenIndex]);
+        }
+        
+        String lineText(int lineNumber) {
+            lineNumber -= firstLineNumber - 1;
+            if (lineNumber < 1 || lineNumber > newlinePositions.length + 1) {
+                return "";
             }
+            int start = lineNumber == 1 ? 0 : newlinePositions[lineNumber - 2] + 1;
+            int end = lineNumber <= newlinePositions.length ? newlinePositions[lineNumber - 1] : text.length();
+            if (end > start && text.charAt(end - 1) == '\r') {
+                end--;
+            }
+            return text.substring(start, end);
         }
     }
     
-    private void saveEliminatedWordsOnExit() {
-        if (autoSaveEliminatedWords || saveOnlyOnExit) {
-            File eliminatedWordsFile = new File("Elenenler/elenenler.txt");
-            try (BufferedWriter writer = new BufferedWriter(new OutputStreamWriter(new FileOutputStream(eliminatedWordsFile), "UTF-8"))) {
-                // En son eklenen en başta olacak şekilde kaydet
-                List<String> wordsList = new ArrayList<>(eliminatedWords);
-                Collections.reverse(wordsList);
-                for (String word : wordsList) {
-                    writer.write(word);
-                    writer.newLine();
+    private LargeFileViewer inputViewer;
+    private LargeFileViewer outputViewer;
+    private String displayedFileName; // Giriş alanında gösterilen dosya (yalnızca EDT)
+    
+    // Büyük dosyalar için salt okunur, sanal görüntüleyici. Metin alanının yerine (CardLayout) geçer; dosya belleğe
+    // alınmaz: satır başlangıç ofsetleri arka planda tek geçişte indekslenir, JList yalnızca görünen satırları ister
+    // ve satırlar sayfa sayfa diskten okunup küçük bir LRU önbellekte tutulur.
+    private static class LargeFileViewer {
+        private static final String TEXT_CARD = "metin";
+        private static final String FILE_CARD = "buyuk-dosya";
+        
+        private final JPanel cards = new JPanel(new java.awt.CardLayout());
+        private final JList<String> lines = new JList<>();
+        private LineFileModel model; // yalnızca EDT
+        private int pendingLine = -1;
+        
+        LargeFileViewer(JScrollPane textScrollPane, Font font) {
+            lines.setFont(font);
+            lines.setSelectionMode(ListSelectionModel.SINGLE_SELECTION);
+            // Sabit hücre boyu: JList satırları tek tek ölçmez, yalnızca görünen pencereyi çizer
+            FontMetrics metrics = lines.getFontMetrics(font);
+            lines.setFixedCellHeight(metrics.getHeight() + 2);
+            lines.setFixedCellWidth(metrics.charWidth('m') * 160);
+            lines.setCellRenderer(new DefaultListCellRenderer() {
+                @Override
+                public Component getListCellRendererComponent(JList<?> list, Object value, int index, boolean isSelected, boolean cellHasFocus) {
+                    return super.getListCellRendererComponent(list, String.format("%7d  %s", index + 1, value), index, isSelected, cellHasFocus);
                 }
-            } catch (IOException e) {
-                System.err.println("Elenenler dosyasi yazilirken hata: " + e.getMessage());
+            });
+            cards.add(textScrollPane, TEXT_CARD);
+            cards.add(new JScrollPane(lines), FILE_CARD);
+        }
+        
+        JComponent getComponent() {
+            return cards;
+        }
+        
+        boolean isShowingFile() {
+            return model != null;
+        }
+        
+        void showFile(File file) throws IOException {
+            closeModel();
+            model = new LineFileModel(file, count -> {
+                if (pendingLine >= 0 && pendingLine < count) {
+                    int line = pendingLine;
+                    pendingLine = -1;
+                    select(line);
+                }
+            });
+            lines.setModel(model);
+            ((java.awt.CardLayout) cards.getLayout()).show(cards, FILE_CARD);
+        }
+        
+        void showText() {
+            closeModel();
+            ((java.awt.CardLayout) cards.getLayout()).show(cards, TEXT_CARD);
+        }
+        
+        // 1 tabanlı satıra gider; satır henüz indekslenmediyse indeks oraya ulaşınca gidilir
+        void jumpToLine(int lineNumber) {
+            if (model == null) {
+                return;
+            }
+            int line = lineNumber - 1;
+            if (line < model.getSize()) {
+                pendingLine = -1;
+                select(line);
+            } else {
+                pendingLine = line;
+            }
+        }
+        
+        private void select(int line) {
+            lines.setSelectedIndex(line);
+            lines.ensureIndexIsVisible(line);
+        }
+        
+        private void closeModel() {
+            if (model != null) {
+                model.close();
+                model = null;
+                pendingLine = -1;
+                lines.setModel(new DefaultListModel<>());
             }
         }
     }
     
-    private void saveSavedWordsIfEnabled() {
-        if (autoSaveSavedWords && !saveSavedWordsOnlyOnExit) {
-            File savedWordsFile = new File("KayitliKelimeler/kayitlikelimeler.txt");
-            try (BufferedWriter writer = new BufferedWriter(new OutputStreamWriter(new FileOutputStream(savedWordsFile), "UTF-8"))) {
-                // En son eklenen en üstte olacak şekilde kaydet
-                List<java.util.Map.Entry<String, String>> entries = new ArrayList<>(savedWords.entrySet());
-                Collections.reverse(entries);
-                for (java.util.Map.Entry<String, String> entry : entries) {
-                    writer.write(entry.getKey() + "=" + entry.getValue());
-                    writer.newLine();
+    // Satır başlangıç ofsetleri indeksi üzerinden dosyayı satır satır sunan liste modeli. İndeks "satir-indeksi"
+    // iş parçacığında kurulur ve parça parça EDT'ye yayımlanır; yayımlanan satırların ofsetleri artık değişmez.
+    private static class LineFileModel extends AbstractListModel<String> {
+        private static final long serialVersionUID = 1L;
+        private static final int PAGE_LINES = 256;
+        private static final int CACHED_PAGES = 64;
+        private static final int MAX_LINE_BYTES = 16 * 1024; // Çok uzun satırların yalnızca başı gösterilir
+        private static final int PUBLISH_EVERY_LINES = 64 * 1024;
+        
+        private final java.nio.channels.FileChannel channel;
+        private final long fileSize;
+        private final java.util.function.IntConsumer onPublished;
+        private volatile boolean closed;
+        // Yalnızca EDT'den erişilir
+        private long[] lineStarts = new long[0];
+        private int lineCount;
+        private boolean indexed;
+        private final java.util.LinkedHashMap<Integer, String[]> pages = new java.util.LinkedHashMap<Integer, String[]>(CACHED_PAGES, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(java.util.Map.Entry<Integer, String[]> eldest) {
+                return size() > CACHED_PAGES;
+            }
+        };
+        
+        LineFileModel(File file, java.util.function.IntConsumer onPublished) throws IOException {
+            this.channel = java.nio.channels.FileChannel.open(file.toPath(), java.nio.file.StandardOpenOption.READ);
+            this.fileSize = channel.size();
+            this.onPublished = onPublished;
+            Thread indexer = new Thread(this::buildIndex, "satir-indeksi");
+            indexer.setDaemon(true);
+            indexer.start();
+        }
+        
+        // UTF-8'de '\n' baytı çok baytlı karakterlerin içinde geçmez, bu yüzden baytlar çözülmeden taranır
+        private void buildIndex() {
+            long[] starts = new long[1024];
+            int count = 1; // starts[0] = 0
+            int published = 0;
+            java.nio.ByteBuffer buffer = java.nio.ByteBuffer.allocateDirect(1 << 20);
+            try {
+                long position = 0;
+                while (!closed && position < fileSize) {
+                    buffer.clear();
+                    int read = channel.read(buffer, position);
+                    if (read <= 0) {
+                        break;
+                    }
+                    for (int i = 0; i < read; i++) {
+                        if (buffer.get(i) == '\n' && position + i + 1 < fileSize) {
+                            if (count == starts.length) {
+                                starts = java.util.Arrays.copyOf(starts, count * 2);
+                            }
+                            starts[count++] = position + i + 1;
+                        }
+                    }
+                    position += read;
+                    // Son satırın bitişi henüz bilinmiyor, o yüzden bir eksiği yayımlanır
+                    if (count - 1 - published >= PUBLISH_EVERY_LINES) {
+                        published = count - 1;
+                        publish(starts, published, false);
+                    }
                 }
             } catch (IOException e) {
-                System.err.println("Kayitli kelimeler dosyasi yazilirken hata: " + e.getMessage());
+                if (!closed) {
+                    System.err.println("Satir indeksi olusturulamadi: " + e.getMessage());
+                }
             }
+            publish(starts, fileSize == 0 ? 0 : count, true);
         }
-    }
-    
-    private void saveSavedWordsOnExit() {
-        if (autoSaveSavedWords || saveSavedWordsOnlyOnExit) {
-            saveSavedWords();
+        
+        private void publish(long[] starts, int count, boolean finished) {
+            SwingUtilities.invokeLater(() -> {
+                if (closed) {
+                    return;
+                }
+                int previous = lineCount;
+                pages.remove(previous / PAGE_LINES); // Eksik okunmuş son sayfa
+                lineStarts = starts;
+                lineCount = count;
+                indexed = finished;
+                if (count > previous) {
+                    fireIntervalAdded(this, previous, count - 1);
+                }
+                onPublished.accept(count);
+            });
+        }
+        
+        @Override
+        public int getSize() {
+            return lineCount;
+        }
+        
+        @Override
+        public String getElementAt(int index) {
+            int page = index / PAGE_LINES;
+            String[] lines = pages.get(page);
+            if (lines == null) {
+                lines = readPage(page);
+                pages.put(page, lines);
+            }
+            return lines[index - page * PAGE_LINES];
+        }
+        
+        private String[] readPage(int page) {
+            int first = page * PAGE_LINES;
+            int last = Math.min(lineCount, first + PAGE_LINES);
+            String[] lines = new String[last - first];
+            java.nio.ByteBuffer buffer = java.nio.ByteBuffer.allocate(MAX_LINE_BYTES);
+            for (int i = first; i < last; i++) {
+                long start = lineStarts[i];
+                long end = i + 1 < lineCount || !indexed ? lineStarts[i + 1] : fileSize;
+                int length = (int) Math.min(end - start, MAX_LINE_BYTES);
+                buffer.clear().limit(length);
+                try {
+                    while (buffer.hasRemaining() && channel.read(buffer, start + buffer.position()) > 0) {
+                        // Tampon dolana kadar oku
+                    }
+                } catch (IOException e) {
+                    lines[i - first] = "[okunamadi: " + e.getMessage() + "]";
+                    continue;
+                }
+                int size = buffer.position();
+                while (size > 0 && (buffer.get(size - 1) == '\n' || buffer.get(size - 1) == '\r')) {
+                    size--;
+                }
+                String line = new String(buffer.array(), 0, size, java.nio.charset.StandardCharsets.UTF_8);
+                lines[i - first] = end - start > MAX_LINE_BYTES ? line + " [...]" : line;
+            }
+            return lines;
+        }
+        
+        void close() {
+            closed = true;
+            try {
+                channel.close();
+            } catch (IOException e) {
+                // Yalnızca okuma için açılmıştı
+            }
         }
     }
     
-    private void selectFiles(boolean forNewWorkspace) {
-        JFileChooser fileChooser = new JFileChooser(lastFileChooserDirectory);
-        fileChooser.setFileFilter(new FileNameExtensionFilter("Metin Dosyalari", "txt"));
-        fileChooser.setMultiSelectionEnabled(true);
+    private volatile LiveSpellChecker liveSpellChecker;
+    
+    // Giriş alanında canlı yazım denetimi. DocumentListener değişen paragrafları (satırları) kirli olarak işaretler;
+    // yazma DELAY_MS boyunca durunca yalnızca kirli paragraflar arka planda yeniden tokenize edilip denetlenir ve
+    // hatalı kelimelerin altı dalgalı çizgiyle çizilir. Tuş başına iş, belgenin boyundan bağımsız olarak tek paragraftır.
+    // Belge alanları ve vurgular yalnızca EDT'de değiştirilir; arka plan iş parçacığı yalnızca paragraf metinlerini görür.
+    private static class LiveSpellChecker implements javax.swing.event.DocumentListener {
+        private static final int DELAY_MS = 300;
+        private static final int BATCH_PARAGRAPHS = 200;
+        private static final int MAX_TRACKED_PARAGRAPHS = 1_000; // Üstünde tüm belge kirli sayılır (ör. setText)
         
-        int result = fileChooser.showOpenDialog(this);
-        if (result == JFileChooser.APPROVE_OPTION) {
-            File[] files = fileChooser.getSelectedFiles();
-            
-            // Eğer aktif bir çalışma alanı varsa ve bu yeni bir çalışma alanı için dosya seçimi değilse, çalışma alanından çık
-            if (currentWorkspaceDir != null && !forNewWorkspace) {
-                String workspaceName = currentWorkspaceName;
-                currentWorkspaceName = null;
-                currentWorkspaceDir = null;
-                
-                // Sol panel başlığını güncelle
-                updateLeftPanelTitle();
-                
-                JOptionPane.showMessageDialog(this, 
-                    "Calisma alani '" + workspaceName + "' kapatildi. Normal moda gecildi.", 
-                    "Calisma Alani Kapatildi", JOptionPane.INFORMATION_MESSAGE);
-            }
+        private static final class Paragraph {
+            final javax.swing.text.Position start;
+            final String text;
+            int[] misspelledRanges; // [başlangıç, bitiş] çiftleri, paragrafa göre
             
-            // Son seçilen dosyanın konumunu kaydet
-            if (files.length > 0) {
-                lastFileChooserDirectory = files[0].getParentFile();
-                System.out.println("Dosya seçimi sırasında lastFileChooserDirectory ayarlandı: " + lastFileChooserDirectory.getAbsolutePath());
-                // Ayarlara kaydet
-                saveSettings();
+            Paragraph(javax.swing.text.Position start, String text) {
+                this.start = start;
+                this.text = text;
+            }
+        }
+        
+        private final JTextArea area;
+        private final java.util.function.Supplier<TurkishTokenizer> tokenizer;
+        private final java.util.function.Predicate<String> misspelled;
+        private final javax.swing.Timer debounce;
+        private final javax.swing.text.Highlighter.HighlightPainter painter = new SquigglyPainter(Color.RED);
+        private final ExecutorService worker = Executors.newSingleThreadExecutor(r -> {
+            Thread thread = new Thread(r, "canli-denetim");
+            thread.setDaemon(true);
+            return thread;
+        });
+        // Tüm belge yeniden denetlenince artar; eski toplu işler yarıda bırakılır
+        private final AtomicLong generation = new AtomicLong();
+        // Aşağıdakilere yalnızca EDT'den erişilir
+        private final List<javax.swing.text.Position> dirty = new ArrayList<>();
+        private boolean allDirty;
+        private boolean enabled;
+        
+        LiveSpellChecker(JTextArea area, java.util.function.Supplier<TurkishTokenizer> tokenizer, java.util.function.Predicate<String> misspelled) {
+            this.area = area;
+            this.tokenizer = tokenizer;
+            this.misspelled = misspelled;
+            this.debounce = new javax.swing.Timer(DELAY_MS, e -> flush());
+            this.debounce.setRepeats(false);
+            area.getDocument().addDocumentListener(this);
+            // setText yeni bir belge kurmaz ama setDocument kurabilir: dinleyiciyi yeni belgeye taşı
+            area.addPropertyChangeListener("document", e -> {
+                if (e.getOldValue() instanceof javax.swing.text.Document) {
+                    ((javax.swing.text.Document) e.getOldValue()).removeDocumentListener(this);
+                }
+                area.getDocument().addDocumentListener(this);
+                recheckAll();
+            });
+        }
+        
+        void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+            if (enabled) {
+                recheckAll();
+            } else {
+                debounce.stop();
+                dirty.clear();
+                allDirty = false;
+                generation.incrementAndGet();
+                removeHighlights(0, area.getDocument().getLength());
+            }
+        }
+        
+        @Override
+        public void insertUpdate(javax.swing.event.DocumentEvent e) {
+            markDirty(e.getOffset(), e.getOffset() + e.getLength());
+        }
+        
+        @Override
+        public void removeUpdate(javax.swing.event.DocumentEvent e) {
+            markDirty(e.getOffset(), e.getOffset());
+        }
+        
+        @Override
+        public void changedUpdate(javax.swing.event.DocumentEvent e) {
+            // Yalnızca öznitelik değişikliği, metin aynı
+        }
+        
+        void recheckAll() {
+            if (!enabled) {
+                return;
+            }
+            allDirty = true;
+            dirty.clear();
+            debounce.restart();
+        }
+        
+        // Sözlükte değişen kelimeyi içeren paragrafları yeniden denetler: elendiyse çizgi kalkar, elenenlerden
+        // çıkarıldıysa geri gelir. Alt dize eşleşmesi fazladan paragraf işaretleyebilir, bu yalnızca gereksiz bir denetimdir.
+        void recheckWord(String word) {
+            if (!enabled || word.isEmpty()) {
+                return;
+            }
+            javax.swing.text.Document document = area.getDocument();
+            String text;
+            try {
+                text = document.getText(0, document.getLength());
+            } catch (javax.swing.text.BadLocationException e) {
+                return; // Tüm belge aralığı her zaman geçerlidir
+            }
+            javax.swing.text.Element root = document.getDefaultRootElement();
+            for (int at = text.indexOf(word); at >= 0; at = text.indexOf(word, at + word.length())) {
+                markDirty(at, at);
+                if (allDirty) {
+                    return;
+                }
+                // Aynı paragraftaki sonraki tekrarlar atlanır
+                at = Math.max(at, root.getElement(root.getElementIndex(at)).getEndOffset() - word.length());
+            }
+        }
+        
+        private void markDirty(int start, int end) {
+            if (!enabled) {
+                return;
+            }
+            if (!allDirty) {
+                javax.swing.text.Element root = area.getDocument().getDefaultRootElement();
+                int first = root.getElementIndex(start);
+                int last = root.getElementIndex(end);
+                if (dirty.size() + last - first + 1 > MAX_TRACKED_PARAGRAPHS) {
+                    allDirty = true;
+                    dirty.clear();
+                } else {
+                    for (int i = first; i <= last; i++) {
+                        try {
+                            dirty.add(area.getDocument().createPosition(root.getElement(i).getStartOffset()));
+                        } catch (javax.swing.text.BadLocationException e) {
+                            // Eleman ofseti belge içinde olmalı
+                        }
+                    }
+                }
+            }
+            debounce.restart();
+        }
+        
+        // Kirli paragrafların metnini EDT'de alır ve arka planda denetletir
+        private void flush() {
+            if (!enabled || (dirty.isEmpty() && !allDirty)) {
+                return;
+            }
+            TurkishTokenizer currentTokenizer = tokenizer.get();
+            if (currentTokenizer == null) {
+                return; // Zemberek yüklenince recheckAll çağrılır
+            }
+            javax.swing.text.Document document = area.getDocument();
+            javax.swing.text.Element root = document.getDefaultRootElement();
+            java.util.TreeSet<Integer> lines = new java.util.TreeSet<>();
+            if (allDirty) {
+                generation.incrementAndGet();
+                for (int i = 0; i < root.getElementCount(); i++) {
+                    lines.add(i);
+                }
+            } else {
+                for (javax.swing.text.Position position : dirty) {
+                    lines.add(root.getElementIndex(position.getOffset()));
+                }
+            }
+            dirty.clear();
+            allDirty = false;
+            
+            List<Paragraph> paragraphs = new ArrayList<>(lines.size());
+            for (int line : lines) {
+                javax.swing.text.Element element = root.getElement(line);
+                int start = element.getStartOffset();
+                int end = Math.min(element.getEndOffset(), document.getLength());
+                try {
+                    paragraphs.add(new Paragraph(document.createPosition(start), document.getText(start, end - start)));
+                } catch (javax.swing.text.BadLocationException e) {
+                    // Eleman ofseti belge içinde olmalı
+                }
+            }
+            long batchGeneration = generation.get();
+            try {
+                worker.execute(() -> {
+                    for (int from = 0; from < paragraphs.size(); from += BATCH_PARAGRAPHS) {
+                        if (generation.get() != batchGeneration) {
+                            return; // Belge tamamen değişti, yeni toplu iş zaten sırada
+                        }
+                        List<Paragraph> batch = paragraphs.subList(from, Math.min(paragraphs.size(), from + BATCH_PARAGRAPHS));
+                        for (Paragraph paragraph : batch) {
+                            paragraph.misspelledRanges = findMisspellings(currentTokenizer, paragraph.text);
+                        }
+                        SwingUtilities.invokeLater(() -> apply(batch, batchGeneration));
+                    }
+                });
+            } catch (java.util.concurrent.RejectedExecutionException e) {
+                // Kapatıldı
+            }
+        }
+        
+        private int[] findMisspellings(TurkishTokenizer currentTokenizer, String text) {
+            int[] ranges = new int[8];
+            int count = 0;
+            int offset = 0;
+            java.util.Iterator<Token> iterator = currentTokenizer.getTokenIterator(text);
+            while (iterator.hasNext()) {
+                Token token = iterator.next();
+                String word = token.getText();
+                if (token.getType() == Token.Type.Word && misspelled.test(word)) {
+                    if (count + 2 > ranges.length) {
+                        ranges = java.util.Arrays.copyOf(ranges, ranges.length * 2);
+                    }
+                    ranges[count++] = offset;
+                    ranges[count++] = offset + word.length();
+                }
+                offset += word.length();
+            }
+            return java.util.Arrays.copyOf(ranges, count);
+        }
+        
+        // Denetlenen metin hâlâ belgedeyse paragrafın vurgularını yeniler; değiştiyse o düzenleme paragrafı zaten kirli işaretledi
+        private void apply(List<Paragraph> batch, long batchGeneration) {
+            if (!enabled || generation.get() != batchGeneration) {
+                return;
+            }
+            javax.swing.text.Document document = area.getDocument();
+            javax.swing.text.Highlighter highlighter = area.getHighlighter();
+            for (Paragraph paragraph : batch) {
+                int start = paragraph.start.getOffset();
+                int end = start + paragraph.text.length();
+                try {
+                    if (end > document.getLength() || !document.getText(start, paragraph.text.length()).equals(paragraph.text)
+                            || (start > 0 && !document.getText(start - 1, 1).equals("\n"))) {
+                        continue;
+                    }
+                    removeHighlights(start, end);
+                    for (int r = 0; r < paragraph.misspelledRanges.length; r += 2) {
+                        highlighter.addHighlight(start + paragraph.misspelledRanges[r], start + paragraph.misspelledRanges[r + 1], painter);
+                    }
+                } catch (javax.swing.text.BadLocationException e) {
+                    // Belge bu arada kısaldı; ilgili düzenleme paragrafı yeniden kuyruğa aldı
+                }
+            }
+        }
+        
+        private void removeHighlights(int start, int end) {
+            javax.swing.text.Highlighter highlighter = area.getHighlighter();
+            for (javax.swing.text.Highlighter.Highlight highlight : highlighter.getHighlights()) {
+                if (highlight.getPainter() == painter && highlight.getStartOffset() >= start && highlight.getStartOffset() < end) {
+                    highlighter.removeHighlight(highlight);
+                }
+            }
+        }
+        
+        void shutdown() {
+            debounce.stop();
+            worker.shutdownNow();
+        }
+    }
+    
+    // Vurgulanan metnin altına dalgalı çizgi çizer
+    private static class SquigglyPainter extends javax.swing.text.DefaultHighlighter.DefaultHighlightPainter {
+        SquigglyPainter(Color color) {
+            super(color);
+        }
+        
+        @Override
+        public Shape paintLayer(Graphics g, int offs0, int offs1, Shape bounds, javax.swing.text.JTextComponent c, javax.swing.text.View view) {
+            Rectangle r;
+            try {
+                Shape shape = view.modelToView(offs0, javax.swing.text.Position.Bias.Forward, offs1, javax.swing.text.Position.Bias.Backward, bounds);
+                r = shape instanceof Rectangle ? (Rectangle) shape : shape.getBounds();
+            } catch (javax.swing.text.BadLocationException e) {
+                return null;
+            }
+            g.setColor(getColor());
+            int baseline = r.y + r.height - 2;
+            for (int x = r.x; x < r.x + r.width; x += 4) {
+                g.drawLine(x, baseline, x + 2, baseline - 2);
+                g.drawLine(x + 2, baseline - 2, x + 4, baseline);
+            }
+            return r;
+        }
+    }
+    
+    // JSON metin değeri üretir (rapor ve servis çıktıları için)
+    private static String jsonString(String value) {
+        StringBuilder sb = new StringBuilder(value.length() + 2);
+        sb.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"': sb.append("\\\""); break;
+                case '\\': sb.append("\\\\"); break;
+                case '\n': sb.append("\\n"); break;
+                case '\r': sb.append("\\r"); break;
+                case '\t': sb.append("\\t"); break;
+                default:
+                    if (c < 0x20) {
+                        sb.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        sb.append(c);
+                    }
+            }
+        }
+        return sb.append('"').toString();
+    }
+    
+    // Arayüzsüz toplu mod: --batch <klasor> [--out <klasor>] [--rapor <dosya>] [--oneri-yok]
+    // Kayıtlı düzeltmeleri otomatik uygular, kalan hataları JSON Lines raporuna yazar, diyalog açmaz.
+    private static class BatchRunner {
+        static final int EXIT_OK = 0;
+        static final int EXIT_ERRORS_FOUND = 1;
+        static final int EXIT_FAILURE = 2;
+        private static final int MAX_REPORTED_SUGGESTIONS = 3;
+        
+        private final File inputDir;
+        private final File outputDir;
+        private final File reportFile;
+        private final boolean withSuggestions;
+        private final Set<String> eliminated = new java.util.LinkedHashSet<>();
+        private final java.util.Map<String, String> saved = new java.util.LinkedHashMap<>();
+        private SortedStringTable shared;
+        private SpellCheckEngine engine;
+        private final AtomicLong appliedCount = new AtomicLong();
+        private final AtomicLong errorCount = new AtomicLong();
+        private final AtomicInteger failedFiles = new AtomicInteger();
+        
+        BatchRunner(File inputDir, File outputDir, File reportFile, boolean withSuggestions) {
+            this.inputDir = inputDir;
+            this.outputDir = outputDir;
+            this.reportFile = reportFile;
+            this.withSuggestions = withSuggestions;
+        }
+        
+        static int runFromArgs(String[] args) {
+            File inputDir = null;
+            File outputDir = new File("Sonuc");
+            File reportFile = null;
+            boolean withSuggestions = true;
+            for (int i = 0; i < args.length; i++) {
+                switch (args[i]) {
+                    case "--batch":
+                        if (i + 1 < args.length) inputDir = new File(args[++i]);
+                        break;
+                    case "--out":
+                        if (i + 1 < args.length) outputDir = new File(args[++i]);
+                        break;
+                    case "--rapor":
+                        if (i + 1 < args.length) reportFile = new File(args[++i]);
+                        break;
+                    case "--oneri-yok":
+                        withSuggestions = false;
+                        break;
+                    default:
+                        System.err.println("Bilinmeyen arguman: " + args[i]);
+                        return EXIT_FAILURE;
+                }
+            }
+            if (inputDir == null || !inputDir.isDirectory()) {
+                System.err.println("Kullanim: --batch <klasor> [--out <klasor>] [--rapor <dosya>] [--oneri-yok]");
+                return EXIT_FAILURE;
+            }
+            if (reportFile == null) {
+                reportFile = new File(outputDir, "yazim_raporu.jsonl");
+            }
+            return new BatchRunner(inputDir, outputDir, reportFile, withSuggestions).run();
+        }
+        
+        int run() {
+            long start = System.nanoTime();
+            try {
+                Files.createDirectories(outputDir.toPath());
+                loadDictionaries();
+                System.out.println("Zemberek yukleniyor...");
+                engine = new SpellCheckEngine(ZemberekComponents.load(), eliminated, saved, () -> shared, null);
+            } catch (IOException e) {
+                System.err.println("Baslatma hatasi: " + e.getMessage());
+                return EXIT_FAILURE;
+            }
+            
+            File[] files = inputDir.listFiles((dir, name) -> name.toLowerCase().endsWith(".txt"));
+            if (files == null) {
+                System.err.println("Klasor okunamadi: " + inputDir);
+                return EXIT_FAILURE;
+            }
+            java.util.Arrays.sort(files);
+            
+            try (BufferedWriter report = new BufferedWriter(new OutputStreamWriter(new FileOutputStream(reportFile), "UTF-8"))) {
+                ForkJoinPool pool = new ForkJoinPool(Runtime.getRuntime().availableProcessors());
+                try {
+                    List<CompletableFuture<Void>> tasks = new ArrayList<>();
+                    for (File file : files) {
+                        tasks.add(CompletableFuture.runAsync(() -> processFile(file, report), pool));
+                    }
+                    CompletableFuture.allOf(tasks.toArray(new CompletableFuture<?>[0])).join();
+                } finally {
+                    pool.shutdown();
+                }
+            } catch (IOException e) {
+                System.err.println("Rapor yazilamadi: " + e.getMessage());
+                return EXIT_FAILURE;
+            }
+            
+            long elapsedMs = (System.nanoTime() - start) / 1_000_000;
+            System.out.println(files.length + " dosya islendi, " + appliedCount.get() + " kayitli duzeltme uygulandi, "
+                + errorCount.get() + " hata raporlandi (" + elapsedMs + " ms)");
+            System.out.println(engine.checkCacheStats());
+            System.out.println("Rapor: " + reportFile.getPath());
+            if (failedFiles.get() > 0) {
+                return EXIT_FAILURE;
+            }
+            return errorCount.get() > 0 ? EXIT_ERRORS_FOUND : EXIT_OK;
+        }
+        
+        private void loadDictionaries() throws IOException {
+            File eliminatedWordsFile = new File(ELIMINATED_WORDS_FILE);
+            if (hasDictionaryData(eliminatedWordsFile)) {
+                System.out.println(readEliminatedWords(eliminatedWordsFile, eliminated) + " elenen kelime yuklendi");
+            }
+            File savedWordsFile = new File(SAVED_WORDS_FILE);
+            if (hasDictionaryData(savedWordsFile)) {
+                System.out.println(readSavedWords(savedWordsFile, saved) + " kayitli kelime yuklendi");
+            }
+            shared = openSharedDictionary();
+        }
+        
+        private void processFile(File file, BufferedWriter report) {
+            File targetFile = new File(outputDir, file.getName());
+            File partFile = new File(outputDir, file.getName() + ".part");
+            boolean large = file.length() >= (long) DEFAULT_STREAMING_THRESHOLD_MB * 1024 * 1024;
+            try (TextChunkSource source = large
+                     ? openChunkSource(file, STREAMING_CHUNK_CHARS, true)
+                     : new ReaderChunkSource(file, Integer.MAX_VALUE);
+                 Writer writer = new BufferedWriter(new OutputStreamWriter(new FileOutputStream(partFile), "UTF-8"))) {
+                int firstLineNumber = 1;
+                long baseOffset = 0;
+                String chunk;
+                while ((chunk = source.nextChunk()) != null) {
+                    firstLineNumber = processChunk(file.getName(), chunk, firstLineNumber, baseOffset, writer, report);
+                    baseOffset += chunk.length();
+                }
+            } catch (IOException | RuntimeException e) {
+                // Tokenize/check hatası da yalnızca bu dosyayı başarısız sayar; join'e taşınıp süreci düşürmez
+                failedFiles.incrementAndGet();
+                partFile.delete();
+                System.err.println(file.getName() + " islenemedi: " + e);
+                return;
+            }
+            try {
+                Files.move(partFile.toPath(), targetFile.toPath(), java.nio.file.StandardCopyOption.REPLACE_EXISTING);
+            } catch (IOException e) {
+                failedFiles.incrementAndGet();
+                System.err.println(file.getName() + " kaydedilemedi: " + e.getMessage());
+            }
+        }
+        
+        // Parçayı tokenize eder, düzeltilmiş token'ları yazar ve sonraki parçanın ilk satır numarasını döner
+        private int processChunk(String fileName, String chunk, int firstLineNumber, long baseOffset,
+                                 Writer writer, BufferedWriter report) throws IOException {
+            // Sözlük arayüz ve servisle aynı kuralla uygulanır (kayıtlı kelime ön geçişi + hatalı kelime düzeltmesi)
+            PrescanResult scan = engine.prescan(chunk, firstLineNumber, baseOffset);
+            List<String> tokenTexts = new ArrayList<>(scan.tokens.size());
+            for (Token token : scan.tokens) {
+                tokenTexts.add(token.getText());
+            }
+            LineIndex lineIndex = new LineIndex(scan.content, tokenTexts, firstLineNumber);
+            StringBuilder reportLines = new StringBuilder();
+            String[] corrected = engine.applyDictionary(scan, i -> {
+                errorCount.incrementAndGet();
+                reportLines.append(reportLine(fileName, lineIndex.lineNumberOfToken(i),
+                    scan.fileOffset(lineIndex.tokenStart(i)), tokenTexts.get(i)));
+            });
+            appliedCount.addAndGet(SpellCheckEngine.appliedCount(scan, corrected));
+            for (String token : corrected) {
+                writer.write(token);
+            }
+            if (reportLines.length() > 0) {
+                synchronized (report) {
+                    report.write(reportLines.toString());
+                }
+            }
+            return lineIndex.lineNumberAt(scan.content.length());
+        }
+        
+        private String reportLine(String fileName, int lineNumber, long offset, String word) {
+            StringBuilder sb = new StringBuilder(128);
+            sb.append("{\"dosya\":").append(jsonString(fileName))
+              .append(",\"satir\":").append(lineNumber)
+              .append(",\"ofset\":").append(offset)
+              .append(",\"kelime\":").append(jsonString(word));
+            if (withSuggestions) {
+                sb.append(",\"oneriler\":[");
+                List<String> suggestions = engine.suggest(word);
+                for (int i = 0; i < suggestions.size() && i < MAX_REPORTED_SUGGESTIONS; i++) {
+                    if (i > 0) sb.append(',');
+                    sb.append(jsonString(suggestions.get(i)));
+                }
+                sb.append(']');
+            }
+            return sb.append("}\n").toString();
+        }
+    }
+    
+    // Yerel HTTP yazım denetimi servisi: --server [--port 8080] [--eszamanli 64] [--zaman-asimi-ms 10000]
+    // Morfoloji bir kez yüklenir ve sıcak tutulur; diğer araçlar her seferinde başlatma maliyeti ödemez.
+    //   POST /check   (gövde: metin)  -> hatalı kelimeler, satır ve ofsetleri
+    //   GET  /suggest?kelime=...      -> öneriler
+    //   POST /correct (gövde: metin)  -> kayıtlı kelimeler uygulanmış metin
+    private static class SpellCheckServer {
+        private static final int MAX_BODY_BYTES = 10 * 1024 * 1024;
+        
+        private final int port;
+        private final int maxConcurrent;
+        private final long timeoutMs;
+        private final Set<String> eliminated = new java.util.LinkedHashSet<>();
+        private final java.util.Map<String, String> saved = new java.util.LinkedHashMap<>();
+        private SortedStringTable shared;
+        private SpellCheckEngine engine;
+        private java.util.concurrent.Semaphore permits;
+        private ExecutorService requestExecutor;
+        private com.sun.net.httpserver.HttpServer server;
+        
+        SpellCheckServer(int port, int maxConcurrent, long timeoutMs) {
+            this.port = port;
+            this.maxConcurrent = maxConcurrent;
+            this.timeoutMs = timeoutMs;
+        }
+        
+        static int runFromArgs(String[] args) {
+            int port = 8080;
+            int maxConcurrent = 64;
+            long timeoutMs = 10_000;
+            try {
+                for (int i = 1; i < args.length; i++) {
+                    switch (args[i]) {
+                        case "--port":
+                            port = Integer.parseInt(args[++i]);
+                            break;
+                        case "--eszamanli":
+                            maxConcurrent = Integer.parseInt(args[++i]);
+                            break;
+                        case "--zaman-asimi-ms":
+                            timeoutMs = Long.parseLong(args[++i]);
+                            break;
+                        default:
+                            throw new IllegalArgumentException(args[i]);
+                    }
+                }
+            } catch (RuntimeException e) {
+                System.err.println("Kullanim: --server [--port 8080] [--eszamanli 64] [--zaman-asimi-ms 10000]");
+                return BatchRunner.EXIT_FAILURE;
+            }
+            SpellCheckServer server = new SpellCheckServer(port, maxConcurrent, timeoutMs);
+            try {
+                server.start();
+            } catch (IOException e) {
+                System.err.println("Servis baslatilamadi: " + e.getMessage());
+                return BatchRunner.EXIT_FAILURE;
+            }
+            Runtime.getRuntime().addShutdownHook(new Thread(server::stop));
+            return BatchRunner.EXIT_OK;
+        }
+        
+        void start() throws IOException {
+            File eliminatedWordsFile = new File(ELIMINATED_WORDS_FILE);
+            if (hasDictionaryData(eliminatedWordsFile)) {
+                readEliminatedWords(eliminatedWordsFile, eliminated);
+            }
+            File savedWordsFile = new File(SAVED_WORDS_FILE);
+            if (hasDictionaryData(savedWordsFile)) {
+                readSavedWords(savedWordsFile, saved);
+            }
+            shared = openSharedDictionary();
+            long loadStart = System.nanoTime();
+            engine = new SpellCheckEngine(ZemberekComponents.load(), eliminated, saved, () -> shared, null);
+            System.out.println("Zemberek yuklendi (" + (System.nanoTime() - loadStart) / 1_000_000 + " ms)");
+            
+            permits = new java.util.concurrent.Semaphore(maxConcurrent);
+            requestExecutor = newRequestExecutor();
+            server = com.sun.net.httpserver.HttpServer.create(new java.net.InetSocketAddress(java.net.InetAddress.getLoopbackAddress(), port), 0);
+            server.setExecutor(requestExecutor);
+            server.createContext("/check", exchange -> handle(exchange, "POST", this::handleCheck));
+            server.createContext("/suggest", exchange -> handle(exchange, "GET", this::handleSuggest));
+            server.createContext("/correct", exchange -> handle(exchange, "POST", this::handleCorrect));
+            server.start();
+            System.out.println("Servis dinleniyor: http://" + server.getAddress().getHostString() + ":" + server.getAddress().getPort());
+        }
+        
+        void stop() {
+            if (server != null) {
+                server.stop(1);
+            }
+            if (requestExecutor != null) {
+                requestExecutor.shutdownNow();
+            }
+        }
+        
+        // Java 21+ üzerinde sanal thread'ler kullanılır; daha eski sürümlerde sıradan thread havuzuna düşülür
+        private static ExecutorService newRequestExecutor() {
+            try {
+                java.lang.reflect.Method factory = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+                System.out.println("Istekler sanal thread'lerde calisiyor");
+                return (ExecutorService) factory.invoke(null);
+            } catch (ReflectiveOperationException e) {
+                System.out.println("Sanal thread desteklenmiyor, thread havuzu kullaniliyor");
+                return Executors.newCachedThreadPool(runnable -> {
+                    Thread thread = new Thread(runnable, "yazim-servisi");
+                    thread.setDaemon(true);
+                    return thread;
+                });
+            }
+        }
+        
+        private interface RequestHandler {
+            String handle(com.sun.net.httpserver.HttpExchange exchange) throws IOException;
+        }
+        
+        // Eşzamanlılık sınırı ve istek zaman aşımı burada uygulanır.
+        // İzin, işin kendisi bitince bırakılır: zaman aşımında iptal yalnızca kesme isteğidir, suggestForWord ve
+        // tokenizer bunu dinlemez; izin hemen bırakılsaydı süren işlerin üstüne yeni istekler kabul edilirdi.
+        private void handle(com.sun.net.httpserver.HttpExchange exchange, String method, RequestHandler handler) throws IOException {
+            try {
+                if (!exchange.getRequestMethod().equalsIgnoreCase(method)) {
+                    respond(exchange, 405, "{\"hata\":\"yalnizca " + method + " desteklenir\"}");
+                    return;
+                }
+                if (!permits.tryAcquire()) {
+                    respond(exchange, 503, "{\"hata\":\"servis mesgul\"}");
+                    return;
+                }
+                // Başlamadan iptal edilen iş hiç çalışmaz; izni o durumda zaman aşımını işleyen taraf bırakır
+                AtomicBoolean started = new AtomicBoolean();
+                Future<String> work;
+                try {
+                    work = requestExecutor.submit(() -> {
+                        if (!started.compareAndSet(false, true)) {
+                            return null;
+                        }
+                        try {
+                            return handler.handle(exchange);
+                        } finally {
+                            permits.release();
+                        }
+                    });
+                } catch (java.util.concurrent.RejectedExecutionException e) {
+                    permits.release();
+                    respond(exchange, 503, "{\"hata\":\"servis kapaniyor\"}");
+                    return;
+                }
+                try {
+                    respond(exchange, 200, work.get(timeoutMs, java.util.concurrent.TimeUnit.MILLISECONDS));
+                } catch (java.util.concurrent.TimeoutException e) {
+                    if (started.compareAndSet(false, true)) {
+                        permits.release();
+                    }
+                    work.cancel(true);
+                    respond(exchange, 504, "{\"hata\":\"zaman asimi\"}");
+                } catch (ExecutionException e) {
+                    Throwable cause = e.getCause();
+                    if (cause instanceof IllegalArgumentException) {
+                        respond(exchange, 400, "{\"hata\":" + jsonString(String.valueOf(cause.getMessage())) + "}");
+                    } else {
+                        respond(exchange, 500, "{\"hata\":" + jsonString(String.valueOf(cause)) + "}");
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    respond(exchange, 503, "{\"hata\":\"servis kapaniyor\"}");
+                }
+            } finally {
+                exchange.close();
+            }
+        }
+        
+        private static void respond(com.sun.net.httpserver.HttpExchange exchange, int status, String json) throws IOException {
+            byte[] body = json.getBytes("UTF-8");
+            exchange.getResponseHeaders().set("Content-Type", "application/json; charset=utf-8");
+            exchange.sendResponseHeaders(status, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        }
+        
+        private static String readBody(com.sun.net.httpserver.HttpExchange exchange) throws IOException {
+            try (InputStream in = exchange.getRequestBody()) {
+                byte[] body = in.readNBytes(MAX_BODY_BYTES + 1);
+                if (body.length > MAX_BODY_BYTES) {
+                    throw new IllegalArgumentException("metin en fazla " + (MAX_BODY_BYTES / (1024 * 1024)) + " MB olabilir");
+                }
+                return new String(body, "UTF-8");
+            }
+        }
+        
+        private static String queryParameter(com.sun.net.httpserver.HttpExchange exchange, String name) throws IOException {
+            String query = exchange.getRequestURI().getRawQuery();
+            if (query != null) {
+                for (String pair : query.split("&")) {
+                    int eq = pair.indexOf('=');
+                    if (eq > 0 && pair.substring(0, eq).equals(name)) {
+                        return java.net.URLDecoder.decode(pair.substring(eq + 1), "UTF-8");
+                    }
+                }
+            }
+            return null;
+        }
+        
+        private String handleCheck(com.sun.net.httpserver.HttpExchange exchange) throws IOException {
+            String text = readBody(exchange);
+            StringBuilder json = new StringBuilder("{\"hatalar\":[");
+            int errors = 0;
+            for (SpellCheckEngine.ErrorSpan error : engine.check(text)) {
+                if (errors++ > 0) json.append(',');
+                json.append("{\"kelime\":").append(jsonString(error.word))
+                    .append(",\"satir\":").append(error.lineNumber)
+                    .append(",\"ofset\":").append(error.start);
+                if (error.savedCorrection != null) {
+                    json.append(",\"kayitli\":").append(jsonString(error.savedCorrection));
+                }
+                json.append('}');
+            }
+            return json.append("]}").toString();
+        }
+        
+        private String handleSuggest(com.sun.net.httpserver.HttpExchange exchange) throws IOException {
+            String word = queryParameter(exchange, "kelime");
+            if (word == null || word.isEmpty()) {
+                throw new IllegalArgumentException("kelime parametresi gerekli");
+            }
+            StringBuilder json = new StringBuilder("{\"kelime\":").append(jsonString(word))
+                .append(",\"dogru\":").append(!engine.isMisspelled(word))
+                .append(",\"oneriler\":[");
+            List<String> suggestions = engine.suggest(word);
+            for (int i = 0; i < suggestions.size(); i++) {
+                if (i > 0) json.append(',');
+                json.append(jsonString(suggestions.get(i)));
+            }
+            return json.append("]}").toString();
+        }
+        
+        private String handleCorrect(com.sun.net.httpserver.HttpExchange exchange) throws IOException {
+            SpellCheckEngine.AppliedText corrected = engine.applyDictionary(readBody(exchange));
+            return "{\"uygulanan\":" + corrected.applied + ",\"metin\":" + jsonString(corrected.text) + "}";
+        }
+    }
+    
+    // Geri Al özelliği için eylem tanımları
+    enum UserAction { ACCEPT, IGNORE, PAUSE, ELIMINATE, UNDO, CUSTOM, APPLY_TO_FILE, APPLY_TO_ALL_FILES, STOP }
+    static class CorrectionResult {
+        UserAction action;
+        String text; // Kabul edilen, özel veya orijinal kelime
+        
+        CorrectionResult(UserAction action, String text) {
+            this.action = action;
+            this.text = text;
+        }
+    }
+    
+    // Arayüzden bağımsız yazım denetimi motoru: metni denetler (hata aralıkları), öneri üretir, elenen/kayıtlı kelime
+    // sözlüklerini uygular ve hatalı kelimeler için kararı takılabilir bir geri çağrıdan alarak düzeltme döngüsünü yürütür.
+    // Swing'e ve pencere durumuna erişmez; arayüz, toplu mod, yerel servis ve ölçüm aracı bu motorun istemcileridir.
+    // Sözlükler istemciye aittir ve eşzamanlı okunabilir olmalıdır; motor yalnızca okur, değişiklikler dictionaryChanged ile bildirilir.
+    static final class SpellCheckEngine {
+        // Metindeki hatalı kelime: [start, end) karakter aralığı, satır numarası ve varsa kayıtlı düzeltmesi
+        static final class ErrorSpan {
+            final String word;
+            final int start;
+            final int end;
+            final int lineNumber;
+            final String savedCorrection;
+            
+            ErrorSpan(String word, int start, int end, int lineNumber, String savedCorrection) {
+                this.word = word;
+                this.start = start;
+                this.end = end;
+                this.lineNumber = lineNumber;
+                this.savedCorrection = savedCorrection;
+            }
+        }
+        
+        // Karar verilecek hatalı kelime; position hatalı kelime listesindeki (duraklatmada saklanan) sabit konumdur
+        static final class DecisionRequest {
+            final String fileName;
+            final String word;
+            final List<String> suggestions;
+            final int lineNumber;
+            final long offset;
+            final String lineContent;
+            final int position;
+            final boolean canUndo;
+            
+            DecisionRequest(String fileName, String word, List<String> suggestions, int lineNumber, long offset,
+                            String lineContent, int position, boolean canUndo) {
+                this.fileName = fileName;
+                this.word = word;
+                this.suggestions = suggestions;
+                this.lineNumber = lineNumber;
+                this.offset = offset;
+                this.lineContent = lineContent;
+                this.position = position;
+                this.canUndo = canUndo;
+            }
+        }
+        
+        // Sözlük uygulanmış metin ve uygulanan düzeltme sayısı
+        static final class AppliedText {
+            final String text;
+            final int applied;
+            
+            AppliedText(String text, int applied) {
+                this.text = text;
+                this.applied = applied;
+            }
+        }
+        
+        // Düzeltme döngüsünün karar kaynağı (arayüzde düzeltme penceresi). decide ELIMINATE dönerse kelimeyi
+        // elenenlere eklemek, PAUSE dönerse sürdürülene kadar proceed'de beklemek geri çağrının işidir.
+        interface DecisionCallback {
+            // Her karardan önce çağrılır; false dönerse döngü durur ve correct null döner
+            default boolean proceed() {
+                return true;
+            }
+            
+            CorrectionResult decide(DecisionRequest request);
+            
+            // Uygulanan (veya geri alınan) her değişiklik; action CorrectionLog işlem adlarından biridir, correction elemede null
+            default void corrected(String fileName, int lineNumber, long offset, String wrong, String correction, String action) {
+            }
+        }
+        
+        private final TurkishMorphology morphology;
+        private final TurkishSpellChecker spellChecker;
+        private final TurkishTokenizer tokenizer;
+        private final Set<String> eliminated;
+        private final java.util.Map<String, String> saved;
+        private final java.util.function.Supplier<SortedStringTable> shared;
+        private final VerdictStore verdictStore;
+        private final WordVerdictCache checkCache;
+        private final SuggestionCache suggestionCache;
+        private final SuggestionPrefetcher prefetcher;
+        
+        // Kayıtlı kelime ön geçişi: saved tek bir Aho-Corasick otomatına derlenir, metin morfolojik denetimden önce
+        // tek doğrusal geçişte düzeltilir. Otomat sözlük sürümü değişince bir sonraki ön taramada yeniden kurulur.
+        private final AtomicLong dictionaryVersion = new AtomicLong();
+        private SavedWordAutomaton savedWordAutomaton;
+        private long savedWordAutomatonVersion = -1;
+        private final Object savedWordAutomatonLock = new Object();
+        
+        // verdictStore null olabilir (kalıcı karar deposu kullanılmaz)
+        SpellCheckEngine(ZemberekComponents zemberek, Set<String> eliminated, java.util.Map<String, String> saved,
+                         java.util.function.Supplier<SortedStringTable> shared, VerdictStore verdictStore) {
+            this.morphology = zemberek.morphology;
+            this.spellChecker = zemberek.spellChecker;
+            this.tokenizer = zemberek.tokenizer;
+            this.eliminated = eliminated;
+            this.saved = saved;
+            this.shared = shared;
+            this.verdictStore = verdictStore;
+            this.checkCache = new WordVerdictCache(CHECK_CACHE_SIZE, this::checkWithVerdictStore);
+            this.suggestionCache = new SuggestionCache(SUGGESTION_CACHE_MAX_CHARS, this::computeSuggestions);
+            this.prefetcher = new SuggestionPrefetcher(suggestionCache, Math.max(1, Runtime.getRuntime().availableProcessors() / 2));
+        }
+        
+        // Varsayılan Zemberek kurulumu ve boş sözlüklerle motor (gömülü kullanım için)
+        static SpellCheckEngine load() throws IOException {
+            return new SpellCheckEngine(ZemberekComponents.load(), new ConcurrentOrderedSet<>(), new ConcurrentOrderedMap<>(), () -> null, null);
+        }
+        
+        TurkishTokenizer tokenizer() {
+            return tokenizer;
+        }
+        
+        TurkishMorphology morphology() {
+            return morphology;
+        }
+        
+        // Zemberek'in kararı (elenen kelimeler hesaba katılmaz)
+        boolean isCorrect(String word) {
+            return checkCache.check(word);
+        }
+        
+        boolean isMisspelled(String word) {
+            return !checkCache.check(word) && !eliminated.contains(word);
+        }
+        
+        // Kayıtlı kelimelerdeki, yoksa ortak sözlükteki düzeltme (yoksa null)
+        String correction(String word) {
+            return lookupCorrection(saved, shared.get(), word);
+        }
+        
+        // Metindeki hatalı kelimeler; iş parçacığı kesilirse o ana kadar bulunanlar döner
+        List<ErrorSpan> check(String text) {
+            List<Token> tokens = tokenizer.tokenize(text);
+            List<String> tokenTexts = new ArrayList<>(tokens.size());
+            for (Token token : tokens) {
+                tokenTexts.add(token.getText());
+            }
+            LineIndex lineIndex = new LineIndex(text, tokenTexts);
+            List<ErrorSpan> errors = new ArrayList<>();
+            for (int i = 0; i < tokens.size() && !Thread.currentThread().isInterrupted(); i++) {
+                String word = tokenTexts.get(i);
+                if (tokens.get(i).getType() == Token.Type.Word && isMisspelled(word)) {
+                    int start = lineIndex.tokenStart(i);
+                    errors.add(new ErrorSpan(word, start, start + word.length(), lineIndex.lineNumberOfToken(i), correction(word)));
+                }
+            }
+            return errors;
+        }
+        
+        // Öneriler (kayıtlı düzeltme varsa başta); önceden hesaplanıyorsa onu bekler
+        List<String> suggest(String word) {
+            return prefetcher.get(word);
+        }
+        
+        void prefetch(String word) {
+            prefetcher.prefetch(word);
+        }
+        
+        void cancelPrefetches() {
+            prefetcher.cancelAll();
+        }
+        
+        // Sözlüğü arayüzdeki otomatik düzeltmeyle aynı kuralla uygular: kayıtlı kelime ön geçişi (çok kelimeli ve
+        // Zemberek'in doğru saydığı girdiler dahil), ardından kalan hatalı kelimelere kayıtlı/ortak sözlük düzeltmesi
+        AppliedText applyDictionary(String text) {
+            PrescanResult scan = prescan(text, 1, 0);
+            String[] corrected = applyDictionary(scan, null);
+            return new AppliedText(String.join("", corrected), appliedCount(scan, corrected));
+        }
+        
+        // Ön taramanın hatalı kelimelerine sözlük düzeltmesini uygular (elenenlere dokunulmaz); düzeltmesi olmayan
+        // hatalı token'ların indeksi unresolved'a verilir (null olabilir). Düzeltilmiş token dizisini döner.
+        String[] applyDictionary(PrescanResult scan, java.util.function.IntConsumer unresolved) {
+            String[] corrected = new String[scan.tokens.size()];
+            for (int i = 0; i < corrected.length; i++) {
+                corrected[i] = scan.tokens.get(i).getText();
+            }
+            for (int tokenIndex : scan.misspelledTokenIndices) {
+                String word = corrected[tokenIndex];
+                if (eliminated.contains(word)) {
+                    continue;
+                }
+                String correction = correction(word);
+                if (correction != null) {
+                    corrected[tokenIndex] = correction;
+                } else if (unresolved != null) {
+                    unresolved.accept(tokenIndex);
+                }
+            }
+            return corrected;
+        }
+        
+        // Ön geçişteki değişiklikler ile düzeltilen hatalı kelimelerin toplamı
+        static int appliedCount(PrescanResult scan, String[] corrected) {
+            int applied = scan.savedReplacements.count;
+            for (int tokenIndex : scan.misspelledTokenIndices) {
+                if (!corrected[tokenIndex].equals(scan.tokens.get(tokenIndex).getText())) {
+                    applied++;
+                }
+            }
+            return applied;
+        }
+        
+        // Önce kayıtlı kelimeleri tek doğrusal geçişte uygular, sonra metni Zemberek'in token iteratörü ile
+        // tokenize eder ve hatalı Word token'larını işaretler
+        PrescanResult prescan(String originalContent, int firstLineNumber, long firstOffset) {
+            SavedWordAutomaton.Replacements replacements = currentSavedWordAutomaton().apply(originalContent, firstLineNumber);
+            String content = replacements.text;
+            List<Token> tokens = new ArrayList<>();
+            int[] misspelled = new int[16];
+            int[] nextSameWord = new int[16];
+            java.util.Map<String, Integer> lastPosition = new java.util.HashMap<>();
+            int count = 0;
+            java.util.Iterator<Token> iterator = tokenizer.getTokenIterator(content);
+            while (iterator.hasNext()) {
+                Token token = iterator.next();
+                if (token.getType() == Token.Type.Word && !checkCache.check(token.getText())) {
+                    if (count == misspelled.length) {
+                        misspelled = java.util.Arrays.copyOf(misspelled, count * 2);
+                        nextSameWord = java.util.Arrays.copyOf(nextSameWord, count * 2);
+                    }
+                    misspelled[count] = tokens.size();
+                    nextSameWord[count] = -1;
+                    Integer previous = lastPosition.put(token.getText(), count);
+                    if (previous != null) {
+                        nextSameWord[previous] = count;
+                    }
+                    count++;
+                }
+                tokens.add(token);
+            }
+            return new PrescanResult(content, tokens, java.util.Arrays.copyOf(misspelled, count),
+                java.util.Arrays.copyOf(nextSameWord, count), firstLineNumber, firstOffset, replacements);
+        }
+        
+        // Metni baştan sona düzeltir; durdurulursa null
+        String correct(String text, String fileName, DecisionCallback callback) {
+            String[] correctedTokens = correct(prescan(text, 1, 0), fileName, 0, callback);
+            return correctedTokens == null ? null : String.join("", correctedTokens);
+        }
+        
+        // Düzeltilmiş token dizisini döner, durdurulursa null. startFromIncorrectWordIndex > 0 ise (duraklatmadan dönüş)
+        // o konumdan sorulmaya devam edilir ve otomatik düzeltmeler ilk geçişte bildirildiği için tekrar bildirilmez.
+        String[] correct(PrescanResult scan, String fileName, int startFromIncorrectWordIndex, DecisionCallback callback) {
+            
+            // 1. Ön taramada tokenize edilmiş metni al
+            String inputText = scan.content;
+            List<String> tokensAsString = new ArrayList<>(scan.tokens.size());
+            for (Token token : scan.tokens) {
+                tokensAsString.add(token.getText());
+            }
+            LineIndex lineIndex = new LineIndex(inputText, tokensAsString, scan.firstLineNumber);
+            boolean reportAutomatic = startFromIncorrectWordIndex == 0;
+            
+            // Ön taramadaki kayıtlı kelime geçişinin yaptığı değişiklikleri bildir
+            SavedWordAutomaton.Replacements prepass = scan.savedReplacements;
+            if (reportAutomatic) {
+                for (int r = 0; r < prepass.count; r++) {
+                    callback.corrected(fileName, prepass.lineNumbers[r], scan.firstOffset + prepass.offsets[r],
+                        prepass.wrongWords[r], prepass.correctWords[r], CorrectionLog.SAVED_PREPASS);
+                }
+            }
+            
+            // 2. Ön taramada hatalı bulunan kelimeleri elenenler ve kayıtlı kelimelere göre süz.
+            // Liste kaydırılmaz: çözülen konumlar bit kümesinde işaretlenir, böylece konum indeksleri (duraklatma dahil) sabit kalır.
+            int[] incorrectTokenIndices = scan.misspelledTokenIndices;
+            int[] nextSameWord = scan.nextSameWord;
+            int incorrectCount = incorrectTokenIndices.length;
+            java.util.BitSet resolved = new java.util.BitSet(incorrectCount);
+            // Dosyaya/tüm dosyalara uygulanan kararla çözülen konum için kararın verildiği konum (geri alma için), yoksa -1
+            int[] resolvedBy = new int[incorrectCount];
+            java.util.Arrays.fill(resolvedBy, -1);
+            for (int k = 0; k < incorrectCount; k++) {
+                int i = incorrectTokenIndices[k];
+                String token = tokensAsString.get(i);
+                if (eliminated.contains(token)) {
+                    resolved.set(k);
+                } else {
+                    // Kayıtlı kelimeleri (ve ortak sözlüğü) kontrol et
+                    String correctWord = correction(token);
+                    if (correctWord != null) {
+                        // Kayıtlı kelime bulundu, otomatik düzelt
+                        tokensAsString.set(i, correctWord);
+                        resolved.set(k);
+                        if (reportAutomatic) {
+                            callback.corrected(fileName, lineIndex.lineNumberOfToken(i), scan.fileOffset(lineIndex.tokenStart(i)),
+                                token, correctWord, CorrectionLog.SAVED);
+                        }
+                    }
+                }
+            }
+            
+            // 3. Düzeltme döngüsü
+            String[] correctedTokens = tokensAsString.toArray(new String[0]);
+            
+            for (int i = resolved.nextClearBit(startFromIncorrectWordIndex); i < incorrectCount; i = resolved.nextClearBit(i + 1)) {
+                if (!callback.proceed()) {
+                    prefetcher.cancelAll();
+                    return null;
+                }
+                
+                int tokenIndex = incorrectTokenIndices[i];
+                String wrongWord = tokensAsString.get(tokenIndex);
+                
+                // ANINDA KONTROL: Kelime döngü içinde elenmiş olabilir, tekrar kontrol et.
+                if (eliminated.contains(wrongWord)) {
+                    resolved.set(i); // Geri almada da atlansın
+                    continue;
+                }
+                
+                // Satır numarasını ve içeriğini bul
+                int lineNumber = lineIndex.lineNumberOfToken(tokenIndex);
+                long fileOffset = scan.fileOffset(lineIndex.tokenStart(tokenIndex));
+                String lineContent = lineIndex.lineText(lineNumber);
+                
+                // Karar beklenirken sonraki (çözülmemiş) kelimelerin önerilerini hazırla
+                for (int k = resolved.nextClearBit(i + 1), scheduled = 0; k < incorrectCount && scheduled < PREFETCH_LOOKAHEAD; k = resolved.nextClearBit(k + 1)) {
+                    String nextWord = tokensAsString.get(incorrectTokenIndices[k]);
+                    if (!nextWord.equals(wrongWord) && !eliminated.contains(nextWord)) {
+                        prefetcher.prefetch(nextWord);
+                        scheduled++;
+                    }
+                }
+                List<String> suggestions = prefetcher.get(wrongWord);
+                
+                int previous = i > 0 ? resolved.previousClearBit(i - 1) : -1;
+                CorrectionResult result = callback.decide(new DecisionRequest(
+                    fileName, wrongWord, suggestions, lineNumber, fileOffset, lineContent, i, previous >= 0));
+                
+                switch (result.action) {
+                    case UNDO:
+                        // Bir önceki hatalı kelimenin düzeltmesini ve o kararla çözülen tekrarları geri al
+                        if (previous >= 0) {
+                            int prevIncorrectTokenIndex = incorrectTokenIndices[previous];
+                            if (!correctedTokens[prevIncorrectTokenIndex].equals(tokensAsString.get(prevIncorrectTokenIndex))) {
+                                callback.corrected(fileName, lineIndex.lineNumberOfToken(prevIncorrectTokenIndex),
+                                    scan.fileOffset(lineIndex.tokenStart(prevIncorrectTokenIndex)),
+                                    tokensAsString.get(prevIncorrectTokenIndex), correctedTokens[prevIncorrectTokenIndex], CorrectionLog.UNDO);
+                            }
+                            correctedTokens[prevIncorrectTokenIndex] = tokensAsString.get(prevIncorrectTokenIndex);
+                            for (int k = nextSameWord[previous]; k >= 0; k = nextSameWord[k]) {
+                                if (resolvedBy[k] == previous) {
+                                    int revertedTokenIndex = incorrectTokenIndices[k];
+                                    if (!correctedTokens[revertedTokenIndex].equals(tokensAsString.get(revertedTokenIndex))) {
+                                        callback.corrected(fileName, lineIndex.lineNumberOfToken(revertedTokenIndex),
+                                            scan.fileOffset(lineIndex.tokenStart(revertedTokenIndex)),
+                                            tokensAsString.get(revertedTokenIndex), correctedTokens[revertedTokenIndex], CorrectionLog.UNDO);
+                                    }
+                                    correctedTokens[revertedTokenIndex] = tokensAsString.get(revertedTokenIndex);
+                                    resolvedBy[k] = -1;
+                                    resolved.clear(k);
+                                }
+                            }
+                            i = previous - 1; // Döngü bir sonraki çözülmemiş konuma (previous) geçer
+                        } else {
+                            i = -1;
+                        }
+                        continue;
+                    case ACCEPT:
+                    case CUSTOM:
+                        correctedTokens[tokenIndex] = result.text;
+                        if (!result.text.equals(wrongWord)) {
+                            callback.corrected(fileName, lineNumber, fileOffset, wrongWord, result.text,
+                                result.action == UserAction.ACCEPT ? CorrectionLog.SUGGESTION : CorrectionLog.CUSTOM);
+                        }
+                        break;
+                    case APPLY_TO_FILE:
+                    case APPLY_TO_ALL_FILES:
+                        // Tüm dosyalara uygulamada kelime kayıtlı kelimelere karar verilirken eklenmiştir
+                        correctedTokens[tokenIndex] = result.text;
+                        if (!result.text.equals(wrongWord)) {
+                            callback.corrected(fileName, lineNumber, fileOffset, wrongWord, result.text,
+                                result.action == UserAction.APPLY_TO_FILE ? CorrectionLog.APPLY_TO_FILE : CorrectionLog.APPLY_TO_ALL_FILES);
+                        }
+                        // Yalnızca bu kelimenin sonraki tekrarlarını gez, düzelt ve çözüldü olarak işaretle
+                        for (int k = nextSameWord[i]; k >= 0; k = nextSameWord[k]) {
+                            if (!resolved.get(k)) {
+                                int nextTokenIndex = incorrectTokenIndices[k];
+                                correctedTokens[nextTokenIndex] = result.text;
+                                callback.corrected(fileName, lineIndex.lineNumberOfToken(nextTokenIndex),
+                                    scan.fileOffset(lineIndex.tokenStart(nextTokenIndex)), wrongWord, result.text, CorrectionLog.AUTOMATIC);
+                                resolved.set(k);
+                                resolvedBy[k] = i;
+                            }
+                        }
+                        break;
+                    case IGNORE:
+                        // Değişiklik yapma, orijinal kelime kalır
+                        break;
+                    case ELIMINATE:
+                        callback.corrected(fileName, lineNumber, fileOffset, wrongWord, null, CorrectionLog.ELIMINATE);
+                        break;
+                    case PAUSE:
+                        // Sürdürülünce aynı kelime tekrar sorulur (geri çağrı proceed'de bekler)
+                        prefetcher.cancelAll();
+                        i--;
+                        continue;
+                    case STOP:
+                        prefetcher.cancelAll();
+                        return null;
+                }
+            }
+            prefetcher.cancelAll();
+            return correctedTokens;
+        }
+        
+        // Elenenler veya kayıtlı kelimeler değiştiğinde önbellekleri geçersiz kılar (word == null: toplu değişiklik)
+        void dictionaryChanged(String word) {
+            dictionaryVersion.incrementAndGet();
+            if (word == null) {
+                suggestionCache.clear();
+            } else {
+                suggestionCache.invalidate(word);
+            }
+        }
+        
+        String checkCacheStats() {
+            return checkCache.getStatsText();
+        }
+        
+        String suggestionCacheStats() {
+            return "Oneri onbellegi: " + suggestionCache.getHitCount() + " isabet / " + suggestionCache.getMissCount() + " iska";
+        }
+        
+        void shutdown() {
+            prefetcher.shutdown();
+        }
+        
+        private SavedWordAutomaton currentSavedWordAutomaton() {
+            synchronized (savedWordAutomatonLock) {
+                long version = dictionaryVersion.get();
+                if (savedWordAutomaton == null || savedWordAutomatonVersion != version) {
+                    // Elenen kelimeler kayıtlı düzeltmelerden önce gelir (correct ile aynı kural)
+                    List<java.util.Map.Entry<String, String>> entries = new ArrayList<>();
+                    for (java.util.Map.Entry<String, String> entry : savedEntries()) {
+                        if (!eliminated.contains(entry.getKey())) {
+                            entries.add(entry);
+                        }
+                    }
+                    savedWordAutomaton = SavedWordAutomaton.build(entries);
+                    savedWordAutomatonVersion = version;
+                }
+                return savedWordAutomaton;
+            }
+        }
+        
+        // Arayüzün eşzamanlı sözlüğü kilitsiz anlık görüntü verir; diğer istemcilerin sözlükleri denetim sırasında değişmez
+        private List<java.util.Map.Entry<String, String>> savedEntries() {
+            if (saved instanceof ConcurrentOrderedMap) {
+                return ((ConcurrentOrderedMap<String, String>) saved).snapshot();
+            }
+            return new ArrayList<>(saved.entrySet());
+        }
+        
+        // Zemberek önerileri; kelime için kayıtlı bir düzeltme varsa listenin başına konur
+        private List<String> computeSuggestions(String wrongWord) {
+            List<String> suggestions = new ArrayList<>(spellChecker.suggestForWord(wrongWord));
+            String savedCorrection = correction(wrongWord);
+            if (savedCorrection != null) {
+                suggestions.remove(savedCorrection);
+                suggestions.add(0, savedCorrection);
+            }
+            return suggestions;
+        }
+        
+        // Önce kalıcı depoya bakar; yoksa Zemberek'e sorar ve kararı depoya ekler
+        private boolean checkWithVerdictStore(String word) {
+            Boolean stored = verdictStore == null ? null : verdictStore.get(word);
+            if (stored != null) {
+                return stored;
+            }
+            boolean correct = spellChecker.check(word);
+            if (verdictStore != null) {
+                verdictStore.record(word, correct);
+            }
+            return correct;
+        }
+    }
+    
+    public TurkishSpellCheckerSimple() {
+        // UTF-8 encoding ayarları
+        System.setProperty("file.encoding", "UTF-8");
+        System.setProperty("sun.jnu.encoding", "UTF-8");
+        
+        initializeSettings();
+        initializeComponents();
+        initializeZemberek();
+        createDirectories();
+        loadEliminatedWordsIfEnabled();
+        loadSavedWordsIfEnabled();
+        sharedDictionary = openSharedDictionary();
+
+        if (showGuideOnStartup) {
+            // Use invokeLater to make sure the main frame is visible before the dialog
+            SwingUtilities.invokeLater(() -> showGuideDialog(true));
+        }
+    }
+    
+    private void initializeComponents() {
+        setTitle("Turkce Yazim Denetimi Uygulamasi (Gelismis Versiyon)");
+        setDefaultCloseOperation(JFrame.EXIT_ON_CLOSE);
+        setSize(1200, 800);
+        setLocationRelativeTo(null);
+        
+        // Ana panel
+        JPanel mainPanel = new JPanel(new BorderLayout(10, 10));
+        mainPanel.setBorder(BorderFactory.createEmptyBorder(10, 10, 10, 10));
+        
+        // Üst panel - Butonlar
+        JPanel topPanel = new JPanel(new FlowLayout(FlowLayout.LEFT));
+        selectFilesButton = new JButton("Dosya Sec");
+        calismalarimButton = new JButton("Calismalarim");
+        startButton = new JButton("Yazim Denetimi Baslat");
+        continueButton = new JButton("Devam Et");
+        continueButton.setEnabled(false);
+        elenenlerButton = new JButton("Elenenler");
+        kayitliKelimelerButton = new JButton("Kayitli Kelimeler");
+        ayarlarButton = new JButton("Ayarlar");
+        klavuzButton = new JButton("Klavuz");
+        
+        topPanel.add(selectFilesButton);
+        topPanel.add(calismalarimButton);
+        topPanel.add(startButton);
+        topPanel.add(continueButton);
+        topPanel.add(elenenlerButton);
+        topPanel.add(kayitliKelimelerButton);
+        topPanel.add(ayarlarButton);
+        topPanel.add(klavuzButton);
+        
+        // Sol panel - Dosya listesi
+        leftPanel = new JPanel(new BorderLayout());
+        leftPanel.setBorder(BorderFactory.createTitledBorder("Secilen Dosyalar"));
+        leftPanel.setPreferredSize(new Dimension(250, 0));
+        
+        fileListModel = new DefaultListModel<>();
+        fileList = new JList<>(fileListModel);
+        fileList.setSelectionMode(ListSelectionModel.SINGLE_SELECTION);
+        
+        // Dosya listesine tıklama olayı ekle
+        fileList.addListSelectionListener(e -> {
+            if (!e.getValueIsAdjusting() && fileList.getSelectedIndex() >= 0) {
+                loadFile(fileList.getSelectedIndex());
+            }
+        });
+        
+        JScrollPane fileScrollPane = new JScrollPane(fileList);
+        leftPanel.add(fileScrollPane, BorderLayout.CENTER);
+        
+        // Orta panel - Metin alanları
+        JPanel centerPanel = new JPanel(new GridLayout(1, 2, 10, 0));
+        
+        // Sol metin alanı - Giriş metni
+        JPanel inputPanel = new JPanel(new BorderLayout());
+        inputPanel.setBorder(BorderFactory.createTitledBorder("Giris Metni"));
+        inputArea = new JTextArea();
+        inputArea.setFont(new Font("Arial", Font.PLAIN, 14));
+        // Canlı denetim: Zemberek yüklenene kadar değişiklikler birikir, yüklenince tüm metin denetlenir
+        liveSpellChecker = new LiveSpellChecker(inputArea,
+            () -> engine == null ? null : engine.tokenizer(),
+            word -> engine.isMisspelled(word));
+        liveSpellChecker.setEnabled(liveSpellCheck);
+        zemberekReady.thenRun(() -> SwingUtilities.invokeLater(liveSpellChecker::recheckAll));
+        JScrollPane inputScrollPane = new JScrollPane(inputArea);
+        inputViewer = new LargeFileViewer(inputScrollPane, inputArea.getFont());
+        inputPanel.add(inputViewer.getComponent(), BorderLayout.CENTER);
+        
+        // Sağ metin alanı - Çıkış metni
+        JPanel outputPanel = new JPanel(new BorderLayout());
+        outputPanel.setBorder(BorderFactory.createTitledBorder("Duzeltilmis Metin"));
+        outputArea = new JTextArea();
+        outputArea.setFont(new Font("Arial", Font.PLAIN, 14));
+        outputArea.setEditable(false);
+        JScrollPane outputScrollPane = new JScrollPane(outputArea);
+        outputViewer = new LargeFileViewer(outputScrollPane, outputArea.getFont());
+        outputPanel.add(outputViewer.getComponent(), BorderLayout.CENTER);
+        
+        centerPanel.add(inputPanel);
+        centerPanel.add(outputPanel);
+        
+        // Alt panel - İlerleme ve durum
+        JPanel bottomPanel = new JPanel(new BorderLayout());
+        progressBar = new JProgressBar(0, 100);
+        statusLabel = new JLabel("Hazir");
+        bottomPanel.add(progressBar, BorderLayout.CENTER);
+        bottomPanel.add(statusLabel, BorderLayout.SOUTH);
+        
+        // Ana panel düzeni
+        JPanel contentPanel = new JPanel(new BorderLayout(10, 0));
+        contentPanel.add(leftPanel, BorderLayout.WEST);
+        contentPanel.add(centerPanel, BorderLayout.CENTER);
+        
+        mainPanel.add(topPanel, BorderLayout.NORTH);
+        mainPanel.add(contentPanel, BorderLayout.CENTER);
+        mainPanel.add(bottomPanel, BorderLayout.SOUTH);
+        
+        add(mainPanel);
+        
+        // Event listeners
+        selectFilesButton.addActionListener(e -> selectFiles(false));
+        calismalarimButton.addActionListener(e -> showWorkspaceDialog());
+        startButton.addActionListener(e -> startSpellChecking());
+        continueButton.addActionListener(e -> continueSpellChecking());
+        elenenlerButton.addActionListener(e -> showEliminatedWordsDialog());
+        kayitliKelimelerButton.addActionListener(e -> showSavedWordsDialog());
+        ayarlarButton.addActionListener(e -> showSettingsDialog());
+        klavuzButton.addActionListener(e -> showGuideDialog(false));
+        
+        // Uygulama kapatılırken elenenler listesini kaydet
+        addWindowListener(new java.awt.event.WindowAdapter() {
+            @Override
+            public void windowClosing(java.awt.event.WindowEvent e) {
+                spellCheckScheduler.shutdown();
+                outputStage.shutdown();
+                for (CorrectionLog log : correctionLogs.values()) {
+                    log.close();
+                }
+                liveSpellChecker.shutdown();
+                inputViewer.showText();
+                outputViewer.showText();
+                prescanPool.shutdownNow();
+                if (engine != null) {
+                    engine.shutdown();
+                }
+                if (verdictStore != null) {
+                    verdictStore.close();
+                }
+                saveEliminatedWordsOnExit();
+                saveSavedWordsOnExit();
+                
+                // Eğer aktif bir çalışma alanı varsa, işlenmiş dosyaları Tarandi klasörüne taşı
+                if (currentWorkspaceDir != null && !selectedFiles.isEmpty()) {
+                    try {
+                        File taranacakDir = new File(currentWorkspaceDir, "Taranacak");
+                        File tarandiDir = new File(currentWorkspaceDir, "Tarandi");
+                        File workspaceSonucDir = new File(currentWorkspaceDir, "Sonuc");
+                        
+                        // Çalışma alanının Sonuc klasöründeki dosyaları kontrol et ve Tarandi klasörüne taşı
+                        if (workspaceSonucDir.exists()) {
+                            File[] workspaceSonucFiles = workspaceSonucDir.listFiles();
+                            if (workspaceSonucFiles != null) {
+                                for (File workspaceSonucFile : workspaceSonucFiles) {
+                                    // Bu dosya seçili dosyalar arasında mı kontrol et
+                                    boolean isSelectedFile = false;
+                                    for (File selectedFile : selectedFiles) {
+                                        if (selectedFile.getName().equals(workspaceSonucFile.getName())) {
+                                            isSelectedFile = true;
+                                            break;
+                                        }
+                                    }
+                                    
+                                    if (isSelectedFile) {
+                                        // Dosyayı Tarandi klasörüne taşı
+                                        File destFile = new File(tarandiDir, workspaceSonucFile.getName());
+                                        if (!destFile.exists()) {
+                                            Files.move(workspaceSonucFile.toPath(), destFile.toPath(), java.nio.file.StandardCopyOption.REPLACE_EXISTING);
+                                        }
+                                    }
+                                }
+                            }
+                        }
+                    } catch (IOException ex) {
+                        System.err.println("Calisma alani dosyalari tasinirken hata: " + ex.getMessage());
+                    }
+                }
+            }
+        });
+    }
+    
+    private void updateLeftPanelTitle() {
+        if (currentWorkspaceDir != null && currentWorkspaceName != null) {
+            leftPanel.setBorder(BorderFactory.createTitledBorder("Secilen Dosyalar - " + currentWorkspaceName));
+        } else {
+            leftPanel.setBorder(BorderFactory.createTitledBorder("Secilen Dosyalar"));
+        }
+        leftPanel.revalidate();
+        leftPanel.repaint();
+    }
+    
+    // Zemberek'i EDT dışında yükler; arayüz hemen açılır, yükleme aşaması ve geçen süre statusLabel'da gösterilir
+    private void initializeZemberek() {
+        final long startTime = System.nanoTime();
+        final javax.swing.Timer progressTimer = new javax.swing.Timer(200, e ->
+            statusLabel.setText(String.format("Zemberek yukleniyor: %s (%.1f sn)%s",
+                zemberekLoadPhase, (System.nanoTime() - startTime) / 1_000_000_000.0,
+                startPendingOnLoad ? " - yukleme bitince denetim baslayacak" : "")));
+        progressTimer.setInitialDelay(0);
+        progressTimer.start();
+        
+        Thread loader = new Thread(() -> {
+            try {
+                // Zemberek'i başlat
+                zemberekLoadPhase = "sozluk ve morfoloji";
+                ZemberekComponents zemberek = ZemberekComponents.load();
+                zemberekLoadPhase = "kelime karar deposu";
+                verdictStore = new VerdictStore(new File(VERDICT_STORE_FILE), VerdictStore.lexiconFingerprint(zemberek.morphology));
+                verdictStore.whenLoaded().thenAccept(count ->
+                    System.out.println("Kelime karar deposu: " + count + " kayitli karar yuklendi"));
+                zemberekLoadPhase = "onbellekler";
+                engine = new SpellCheckEngine(zemberek, eliminatedWords, savedWords, () -> sharedDictionary, verdictStore);
+                
+                final double seconds = (System.nanoTime() - startTime) / 1_000_000_000.0;
+                SwingUtilities.invokeLater(() -> {
+                    progressTimer.stop();
+                    statusLabel.setText(String.format("Zemberek yuklendi - Hazir (%.1f sn)", seconds));
+                });
+                zemberekReady.complete(null);
+            } catch (Throwable e) {
+                // Eksik jar (NoClassDefFoundError) veya küçük bellek (OutOfMemoryError) da yüklemeyi bitirmeli;
+                // aksi halde ilerleme göstergesi durmaz ve bekleyen "Baslat" hiç serbest kalmaz
+                SwingUtilities.invokeLater(() -> {
+                    progressTimer.stop();
+                    JOptionPane.showMessageDialog(this, 
+                        "Zemberek kutuphanesi yuklenirken hata olustu: " + (e.getMessage() != null ? e.getMessage() : e.toString()) + "\n\n" +
+                        "Lutfen zemberek klasorunun bu dizinde oldugundan emin olun.",
+                        "Hata", JOptionPane.ERROR_MESSAGE);
+                    statusLabel.setText("Zemberek yuklenemedi");
+                });
+                e.printStackTrace();
+                zemberekReady.completeExceptionally(e);
+            }
+        }, "zemberek-yukleyici");
+        loader.setDaemon(true);
+        loader.start();
+    }
+    
+    private void createDirectories() {
+        try {
+            Files.createDirectories(Paths.get("Sonuc"));
+            Files.createDirectories(Paths.get("Duzeltmeler"));
+            Files.createDirectories(Paths.get("Elenenler"));
+            Files.createDirectories(Paths.get("KayitliKelimeler"));
+            Files.createDirectories(Paths.get("Ayarlar"));
+        } catch (IOException e) {
+            JOptionPane.showMessageDialog(this, 
+                "Klasorler olusturulurken hata: " + e.getMessage(),
+                "Hata", JOptionPane.ERROR_MESSAGE);
+        }
+    }
+    
+    private void initializeSettings() {
+        settings = new Properties();
+        settingsFile = new File("Ayarlar/ayarlar.txt");
+        
+        // Varsayılan ayarlar
+        settings.setProperty("autoLoadEliminatedWords", "true");
+        settings.setProperty("autoSaveEliminatedWords", "false");
+        settings.setProperty("saveOnlyOnExit", "true");
+        settings.setProperty("autoLoadSavedWords", "true");
+        settings.setProperty("autoSaveSavedWords", "false");
+        settings.setProperty("saveSavedWordsOnlyOnExit", "true");
+        settings.setProperty("lastFileChooserDirectory", System.getProperty("user.home"));
+        settings.setProperty("showGuideOnStartup", "true");
+        settings.setProperty("streamingThresholdMB", "32");
+        settings.setProperty("memoryMappedReader", "true");
+        settings.setProperty("liveSpellCheck", "true");
+        
+        // Ayarlar dosyası varsa yükle
+        if (settingsFile.exists()) {
+            try (BufferedReader reader = new BufferedReader(new InputStreamReader(new FileInputStream(settingsFile), "UTF-8"))) {
+                // Manuel olarak dosyayı oku (Properties.load() yerine)
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    line = line.trim();
+                    if (!line.isEmpty() && !line.startsWith("#") && line.contains("=")) {
+                        String[] parts = line.split("=", 2);
+                        if (parts.length == 2) {
+                            String key = parts[0].trim();
+                            String value = parts[1].trim();
+                            settings.setProperty(key, value);
+                        }
+                    }
+                }
+                
+                // Ayarları yeni sırayla oku (kaydetme sırasıyla aynı)
+                autoLoadEliminatedWords = Boolean.parseBoolean(settings.getProperty("autoLoadEliminatedWords", "false"));
+                autoSaveEliminatedWords = Boolean.parseBoolean(settings.getProperty("autoSaveEliminatedWords", "false"));
+                saveOnlyOnExit = Boolean.parseBoolean(settings.getProperty("saveOnlyOnExit", "false"));
+                autoLoadSavedWords = Boolean.parseBoolean(settings.getProperty("autoLoadSavedWords", "false"));
+                autoSaveSavedWords = Boolean.parseBoolean(settings.getProperty("autoSaveSavedWords", "false"));
+                saveSavedWordsOnlyOnExit = Boolean.parseBoolean(settings.getProperty("saveSavedWordsOnlyOnExit", "false"));
+                showGuideOnStartup = Boolean.parseBoolean(settings.getProperty("showGuideOnStartup", "true"));
+                memoryMappedReader = Boolean.parseBoolean(settings.getProperty("memoryMappedReader", "true"));
+                liveSpellCheck = Boolean.parseBoolean(settings.getProperty("liveSpellCheck", "true"));
+                try {
+                    streamingThresholdMB = Math.max(1, Integer.parseInt(settings.getProperty("streamingThresholdMB", "32")));
+                } catch (NumberFormatException e) {
+                    System.err.println("Gecersiz streamingThresholdMB degeri, varsayilan kullaniliyor");
+                }
+                
+                // Son dosya seçim konumunu yükle (en son)
+                String lastDir = settings.getProperty("lastFileChooserDirectory", System.getProperty("user.home"));
+                System.out.println("Ayarlardan okunan lastFileChooserDirectory: " + lastDir);
+                File lastDirFile = new File(lastDir);
+                if (lastDirFile.exists() && lastDirFile.isDirectory()) {
+                    lastFileChooserDirectory = lastDirFile;
+                    System.out.println("lastFileChooserDirectory başarıyla ayarlandı: " + lastFileChooserDirectory.getAbsolutePath());
+                } else {
+                    System.out.println("lastFileChooserDirectory geçersiz veya bulunamadı: " + lastDir);
+                }
+            } catch (IOException e) {
+                System.err.println("Ayarlar dosyasi okunurken hata: " + e.getMessage());
+            }
+        }
+        applyJournalSyncSettings();
+    }
+    
+    // Ekleme sırasını koruyan eşzamanlı eşleme (LinkedHashMap yerine).
+    // Okumalar (get/containsKey) ConcurrentHashMap üzerinden kilitsizdir; yazmalar tek bir kilitle sıra indeksini de günceller.
+    // Sıra, artan sıra numarasıyla ConcurrentSkipListMap'te tutulur; gezinme zayıf tutarlıdır, tutarlı kopya için snapshot() kullanılır.
+    private static class ConcurrentOrderedMap<K, V> extends java.util.AbstractMap<K, V> {
+        private static final class Node<K, V> {
+            final long sequence;
+            final K key;
+            volatile V value;
+            
+            Node(long sequence, K key, V value) {
+                this.sequence = sequence;
+                this.key = key;
+                this.value = value;
+            }
+        }
+        
+        private final ConcurrentHashMap<K, Node<K, V>> index = new ConcurrentHashMap<>();
+        private final java.util.concurrent.ConcurrentSkipListMap<Long, Node<K, V>> order = new java.util.concurrent.ConcurrentSkipListMap<>();
+        private final Object writeLock = new Object();
+        private long nextSequence = 0;
+        
+        @Override
+        public V get(Object key) {
+            Node<K, V> node = index.get(key);
+            return node == null ? null : node.value;
+        }
+        
+        @Override
+        public boolean containsKey(Object key) {
+            return index.containsKey(key);
+        }
+        
+        @Override
+        public int size() {
+            return index.size();
+        }
+        
+        // Var olan anahtarın değeri güncellenir, sırası değişmez (LinkedHashMap ile aynı)
+        @Override
+        public V put(K key, V value) {
+            synchronized (writeLock) {
+                Node<K, V> node = index.get(key);
+                if (node != null) {
+                    V previous = node.value;
+                    node.value = value;
+                    return previous;
+                }
+                node = new Node<>(nextSequence++, key, value);
+                order.put(node.sequence, node);
+                index.put(key, node);
+                return null;
+            }
+        }
+        
+        @Override
+        public V remove(Object key) {
+            synchronized (writeLock) {
+                Node<K, V> node = index.remove(key);
+                if (node == null) {
+                    return null;
+                }
+                order.remove(node.sequence);
+                return node.value;
+            }
+        }
+        
+        @Override
+        public void clear() {
+            synchronized (writeLock) {
+                index.clear();
+                order.clear();
+            }
+        }
+        
+        // Ekleme sırasıyla değişmez kopya (diyaloglar ve dışa aktarma için)
+        List<java.util.Map.Entry<K, V>> snapshot() {
+            synchronized (writeLock) {
+                List<java.util.Map.Entry<K, V>> entries = new ArrayList<>(order.size());
+                for (Node<K, V> node : order.values()) {
+                    entries.add(new java.util.AbstractMap.SimpleImmutableEntry<>(node.key, node.value));
+                }
+                return Collections.unmodifiableList(entries);
+            }
+        }
+        
+        List<K> keySnapshot() {
+            synchronized (writeLock) {
+                List<K> keys = new ArrayList<>(order.size());
+                for (Node<K, V> node : order.values()) {
+                    keys.add(node.key);
+                }
+                return Collections.unmodifiableList(keys);
+            }
+        }
+        
+        @Override
+        public Set<java.util.Map.Entry<K, V>> entrySet() {
+            return new java.util.AbstractSet<java.util.Map.Entry<K, V>>() {
+                @Override
+                public java.util.Iterator<java.util.Map.Entry<K, V>> iterator() {
+                    java.util.Iterator<Node<K, V>> nodes = order.values().iterator();
+                    return new java.util.Iterator<java.util.Map.Entry<K, V>>() {
+                        private Node<K, V> last;
+                        
+                        @Override
+                        public boolean hasNext() {
+                            return nodes.hasNext();
+                        }
+                        
+                        @Override
+                        public java.util.Map.Entry<K, V> next() {
+                            last = nodes.next();
+                            return new java.util.AbstractMap.SimpleImmutableEntry<>(last.key, last.value);
+                        }
+                        
+                        @Override
+                        public void remove() {
+                            if (last == null) {
+                                throw new IllegalStateException();
+                            }
+                            ConcurrentOrderedMap.this.remove(last.key);
+                            last = null;
+                        }
+                    };
+                }
+                
+                @Override
+                public int size() {
+                    return index.size();
+                }
+            };
+        }
+    }
+    
+    // Ekleme sırasını koruyan eşzamanlı küme (LinkedHashSet yerine), ConcurrentOrderedMap üzerine kuruludur
+    private static class ConcurrentOrderedSet<E> extends java.util.AbstractSet<E> {
+        private final ConcurrentOrderedMap<E, Boolean> map = new ConcurrentOrderedMap<>();
+        
+        @Override
+        public boolean contains(Object element) {
+            return map.containsKey(element);
+        }
+        
+        @Override
+        public boolean add(E element) {
+            return map.put(element, Boolean.TRUE) == null;
+        }
+        
+        @Override
+        public boolean remove(Object element) {
+            return map.remove(element) != null;
+        }
+        
+        @Override
+        public void clear() {
+            map.clear();
+        }
+        
+        @Override
+        public int size() {
+            return map.size();
+        }
+        
+        @Override
+        public java.util.Iterator<E> iterator() {
+            java.util.Iterator<java.util.Map.Entry<E, Boolean>> entries = map.entrySet().iterator();
+            return new java.util.Iterator<E>() {
+                @Override
+                public boolean hasNext() {
+                    return entries.hasNext();
+                }
+                
+                @Override
+                public E next() {
+                    return entries.next().getKey();
+                }
+                
+                @Override
+                public void remove() {
+                    entries.remove();
+                }
+            };
+        }
+        
+        // Ekleme sırasıyla değişmez kopya
+        List<E> snapshot() {
+            return map.keySnapshot();
+        }
+    }
+    
+    // Sözlük dosyaları: ana dosya + son sıkıştırmadan beri yapılan değişikliklerin günlüğü
+    private static final String ELIMINATED_WORDS_FILE = "Elenenler/elenenler.txt";
+    private static final String SAVED_WORDS_FILE = "KayitliKelimeler/kayitlikelimeler.txt";
+    private final DictionaryJournal eliminatedJournal = new DictionaryJournal(new File(ELIMINATED_WORDS_FILE), "elenenler-gunlugu");
+    private final DictionaryJournal savedJournal = new DictionaryJournal(new File(SAVED_WORDS_FILE), "kayitli-kelimeler-gunlugu");
+    // Ana dosya bellekteki listeye yüklendiyse sıkıştırma güvenlidir (yüklenmediyse günlük ana dosyanın üstüne eklenmeye devam eder)
+    private boolean eliminatedWordsLoaded = false;
+    private boolean savedWordsLoaded = false;
+    
+    private static boolean hasDictionaryData(File dictionaryFile) {
+        return dictionaryFile.exists() || DictionaryJournal.journalFileFor(dictionaryFile).exists();
+    }
+    
+    // Sözlük değişikliklerini ana dosyayı baştan yazmadan ekleyen günlük (ör. Elenenler/elenenler.gunluk).
+    // Kayıtlar: "+kelime" (ekle), "-kelime" (çıkar), "!" (temizle). Yazma ve fsync tek bir arka plan
+    // iş parçacığında yapılır; o anda biriken tüm kayıtlar tek fsync ile diske indirilir. Gruplamalı modda
+    // ilk kayıttan sonra BATCHED_SYNC_DELAY_MS beklenir, böylece sık değişiklikler daha az fsync ile yazılır.
+    // Sıkıştırma ana dosyayı anlık görüntüden atomik olarak yeniden yazar ve günlüğü boşaltır;
+    // araya giren bir çökme sonrası günlüğün tekrar oynatılması aynı sonucu verir.
+    private static class DictionaryJournal {
+        static final String ADD = "+";
+        static final String REMOVE = "-";
+        static final String CLEAR = "!";
+        private static final int COMPACT_MIN_RECORDS = 10_000;
+        private static final long BATCHED_SYNC_DELAY_MS = 1_000;
+        
+        private final File baseFile;
+        private final File journalFile;
+        private final java.util.concurrent.ScheduledExecutorService io;
+        // Sırayla işlenecek kayıtlar (String) ve sıkıştırma istekleri (List<String> ana dosya satırları)
+        private final java.util.ArrayDeque<Object> queue = new java.util.ArrayDeque<>();
+        private boolean drainScheduled = false;
+        private int recordsSinceCompaction;
+        // 0 ise her kayıt hemen yazılır; değilse kayıtlar bu kadar gruplanıp tek fsync ile yazılır
+        private volatile long syncDelayMillis = 0;
+        // Yalnızca io iş parçacığından erişilir
+        private FileOutputStream journalOut;
+        private BufferedOutputStream journalWriter;
+        
+        DictionaryJournal(File baseFile, String threadName) {
+            this.baseFile = baseFile;
+            this.journalFile = journalFileFor(baseFile);
+            this.io = Executors.newSingleThreadScheduledExecutor(r -> {
+                Thread thread = new Thread(r, threadName);
+                thread.setDaemon(true);
+                return thread;
+            });
+            // Önceki oturumdan kalan günlüğün yaklaşık kayıt sayısı
+            this.recordsSinceCompaction = journalFile.exists() ? (int) Math.min(Integer.MAX_VALUE, journalFile.length() / 8) : 0;
+        }
+        
+        static File journalFileFor(File baseFile) {
+            String name = baseFile.getName();
+            int dot = name.lastIndexOf('.');
+            return new File(baseFile.getAbsoluteFile().getParentFile(), (dot > 0 ? name.substring(0, dot) : name) + ".gunluk");
+        }
+        
+        // Günlük kayıtlarını okur; çökme sırasında yarım yazılmış son satır yok sayılır
+        static List<String> readRecords(File journalFile) throws IOException {
+            List<String> records = new ArrayList<>();
+            if (!journalFile.exists()) {
+                return records;
+            }
+            String content = new String(Files.readAllBytes(journalFile.toPath()), java.nio.charset.StandardCharsets.UTF_8);
+            int end = content.lastIndexOf('\n');
+            if (end < 0) {
+                return records;
+            }
+            for (String line : content.substring(0, end).split("\n")) {
+                if (!line.isEmpty()) {
+                    records.add(line);
+                }
+            }
+            return records;
+        }
+        
+        synchronized void append(String record) {
+            recordsSinceCompaction++;
+            enqueue(record);
+        }
+        
+        void setBatchedSync(boolean batched) {
+            this.syncDelayMillis = batched ? BATCHED_SYNC_DELAY_MS : 0;
+        }
+        
+        synchronized boolean needsCompaction(int liveEntries) {
+            return recordsSinceCompaction > Math.max(COMPACT_MIN_RECORDS, liveEntries);
+        }
+        
+        // baseLines: sıkıştırma anındaki sözlüğün ana dosya satırları (çağıran, değişikliklerle aynı iş parçacığında alır)
+        synchronized void compact(List<String> baseLines) {
+            recordsSinceCompaction = 0;
+            queue.add(baseLines);
+            // Sıkıştırma gruplama gecikmesini beklemez; geciken boşaltma daha sonra boş kuyrukla çalışır
+            scheduleDrain(0);
+        }
+        
+        private void enqueue(Object item) {
+            queue.add(item);
+            if (!drainScheduled) {
+                scheduleDrain(syncDelayMillis);
+            }
+        }
+        
+        private void scheduleDrain(long delayMillis) {
+            drainScheduled = true;
+            try {
+                if (delayMillis > 0) {
+                    io.schedule(this::drain, delayMillis, java.util.concurrent.TimeUnit.MILLISECONDS);
+                } else {
+                    io.execute(this::drain);
+                }
+            } catch (java.util.concurrent.RejectedExecutionException e) {
+                drainScheduled = false; // Günlük kapatıldı
+            }
+        }
+        
+        private void drain() {
+            List<Object> items;
+            synchronized (this) {
+                items = new ArrayList<>(queue);
+                queue.clear();
+                drainScheduled = false;
+            }
+            try {
+                boolean pendingSync = false;
+                for (Object item : items) {
+                    if (item instanceof String) {
+                        writeRecord((String) item);
+                        pendingSync = true;
+                    } else {
+                        @SuppressWarnings("unchecked")
+                        List<String> baseLines = (List<String>) item;
+                        rewriteBase(baseLines);
+                        pendingSync = false;
+                    }
+                }
+                if (pendingSync) {
+                    journalWriter.flush();
+                    journalOut.getChannel().force(false);
+                }
+            } catch (IOException e) {
+                System.err.println(journalFile.getName() + " gunlugune yazilirken hata: " + e.getMessage());
+            }
+        }
+        
+        private void writeRecord(String record) throws IOException {
+            if (journalWriter == null) {
+                File parent = journalFile.getParentFile();
+                if (parent != null) {
+                    parent.mkdirs();
+                }
+                journalOut = new FileOutputStream(journalFile, true);
+                journalWriter = new BufferedOutputStream(journalOut);
+            }
+            journalWriter.write((record + "\n").getBytes(java.nio.charset.StandardCharsets.UTF_8));
+        }
+        
+        // Ana dosyayı geçici dosyaya yazıp atomik olarak taşır, ardından günlüğü boşaltır
+        private void rewriteBase(List<String> baseLines) throws IOException {
+            if (journalWriter != null) {
+                journalWriter.flush();
+                journalOut.getChannel().force(false);
+            }
+            File parent = baseFile.getAbsoluteFile().getParentFile();
+            if (parent != null) {
+                parent.mkdirs();
+            }
+            File temp = new File(baseFile.getPath() + ".tmp");
+            try (FileOutputStream out = new FileOutputStream(temp);
+                 BufferedWriter writer = new BufferedWriter(new OutputStreamWriter(out, "UTF-8"))) {
+                for (String line : baseLines) {
+                    writer.write(line);
+                    writer.newLine();
+                }
+                writer.flush();
+                out.getChannel().force(false);
+            }
+            Files.move(temp.toPath(), baseFile.toPath(), java.nio.file.StandardCopyOption.REPLACE_EXISTING, java.nio.file.StandardCopyOption.ATOMIC_MOVE);
+            if (journalWriter != null) {
+                journalWriter.close();
+                journalWriter = null;
+                journalOut = null;
+            }
+            Files.deleteIfExists(journalFile.toPath());
+        }
+        
+        // Bekleyen kayıtları diske indirip yazıcıyı kapatır
+        void close() {
+            io.shutdown();
+            try {
+                io.awaitTermination(10, java.util.concurrent.TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            try {
+                if (journalWriter != null) {
+                    journalWriter.close();
+                    journalWriter = null;
+                }
+            } catch (IOException e) {
+                System.err.println(journalFile.getName() + " gunlugu kapatilirken hata: " + e.getMessage());
+            }
+        }
+    }
+    
+    private void loadEliminatedWordsIfEnabled() {
+        if (autoLoadEliminatedWords) {
+            File eliminatedWordsFile = new File(ELIMINATED_WORDS_FILE);
+            if (hasDictionaryData(eliminatedWordsFile)) {
+                try {
+                    int count = readEliminatedWords(eliminatedWordsFile, eliminatedWords);
+                    if (count > 0) {
+                        statusLabel.setText(count + " elenen kelime yuklendi");
+                    }
+                    eliminatedWordsLoaded = true;
+                    // Önceki oturumdan kalan günlük arka planda ana dosyaya işlenir
+                    if (isEliminatedWordsPersisted() && DictionaryJournal.journalFileFor(eliminatedWordsFile).exists()) {
+                        eliminatedJournal.compact(eliminatedWordsBaseLines());
+                    }
+                } catch (IOException e) {
+                    System.err.println("Elenenler dosyasi okunurken hata: " + e.getMessage());
+                }
+            } else {
+                eliminatedWordsLoaded = true;
+            }
+        }
+    }
+    
+    // Elenenler dosyasını okuyup kümeye ekler, yeni eklenen kelime sayısını döner (arayüz ve toplu mod ortak kullanır)
+    private static int readEliminatedWords(File eliminatedWordsFile, Set<String> target) throws IOException {
+        int before = target.size();
+        if (eliminatedWordsFile.exists()) {
+            readEliminatedWordsBase(eliminatedWordsFile, target);
+        }
+        // Son sıkıştırmadan sonraki değişiklikler günlükten uygulanır
+        for (String record : DictionaryJournal.readRecords(DictionaryJournal.journalFileFor(eliminatedWordsFile))) {
+            if (record.equals(DictionaryJournal.CLEAR)) {
+                target.clear();
+            } else if (record.startsWith(DictionaryJournal.ADD)) {
+                target.add(record.substring(1));
+            } else if (record.startsWith(DictionaryJournal.REMOVE)) {
+                target.remove(record.substring(1));
+            }
+        }
+        return target.size() - before;
+    }
+    
+    private static int readEliminatedWordsBase(File eliminatedWordsFile, Set<String> target) throws IOException {
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(new FileInputStream(eliminatedWordsFile), "UTF-8"))) {
+            String line;
+            int count = 0;
+            // Dosyadan okunan sırayı korumak için önce listeye ekle
+            List<String> wordsFromFile = new ArrayList<>();
+            while ((line = reader.readLine()) != null) {
+                String word = line.trim();
+                if (!word.isEmpty()) {
+                    wordsFromFile.add(word);
+                }
+            }
+            
+            // Dosyadan okunan kelimeleri sırayla HashSet'e ekle (LinkedHashSet sırayı korur)
+            for (String word : wordsFromFile) {
+                if (target.add(word)) {
+                    count++;
+                }
+            }
+            return count;
+        }
+    }
+    
+    private void loadSavedWordsIfEnabled() {
+        if (autoLoadSavedWords) {
+            File savedWordsFile = new File(SAVED_WORDS_FILE);
+            if (hasDictionaryData(savedWordsFile)) {
+                try {
+                    int count = readSavedWords(savedWordsFile, savedWords);
+                    if (count > 0) {
+                        System.out.println(count + " kayitli kelime yuklendi");
+                    }
+                    savedWordsLoaded = true;
+                    // Önceki oturumdan kalan günlük arka planda ana dosyaya işlenir
+                    if (isSavedWordsPersisted() && DictionaryJournal.journalFileFor(savedWordsFile).exists()) {
+                        savedJournal.compact(savedWordsBaseLines());
+                    }
+                } catch (IOException e) {
+                    System.err.println("Kayitli kelimeler dosyasi okunurken hata: " + e.getMessage());
+                }
+            } else {
+                savedWordsLoaded = true;
+            }
+        }
+    }
+    
+    // "yanlis=dogru" satırlarını okuyup eşlemeye ekler, okunan girdi sayısını döner
+    private static int readSavedWords(File savedWordsFile, java.util.Map<String, String> target) throws IOException {
+        int count = 0;
+        if (savedWordsFile.exists()) {
+            try (BufferedReader reader = new BufferedReader(new InputStreamReader(new FileInputStream(savedWordsFile), "UTF-8"))) {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    if (putSavedWordLine(line, target)) {
+                        count++;
+                    }
+                }
+            }
+        }
+        // Son sıkıştırmadan sonraki değişiklikler günlükten uygulanır
+        for (String record : DictionaryJournal.readRecords(DictionaryJournal.journalFileFor(savedWordsFile))) {
+            if (record.equals(DictionaryJournal.CLEAR)) {
+                target.clear();
+                count = 0;
+            } else if (record.startsWith(DictionaryJournal.ADD)) {
+                if (putSavedWordLine(record.substring(1), target)) {
+                    count++;
+                }
+            } else if (record.startsWith(DictionaryJournal.REMOVE)) {
+                target.remove(record.substring(1));
+            }
+        }
+        return count;
+    }
+    
+    private static boolean putSavedWordLine(String line, java.util.Map<String, String> target) {
+        line = line.trim();
+        if (!line.isEmpty() && line.contains("=")) {
+            String[] parts = line.split("=", 2);
+            if (parts.length == 2) {
+                String wrongWord = parts[0].trim();
+                String correctWord = parts[1].trim();
+                if (!wrongWord.isEmpty() && !correctWord.isEmpty()) {
+                    target.put(wrongWord, correctWord);
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+    
+    // Kapanışta günlükler ana dosyalara sıkıştırılır ve kapatılır
+    private void saveEliminatedWordsOnExit() {
+        if (isEliminatedWordsPersisted() && eliminatedWordsLoaded) {
+            eliminatedJournal.compact(eliminatedWordsBaseLines());
+        }
+        eliminatedJournal.close();
+    }
+    
+    private void saveSavedWordsOnExit() {
+        if (isSavedWordsPersisted() && savedWordsLoaded) {
+            savedJournal.compact(savedWordsBaseLines());
+        }
+        savedJournal.close();
+    }
+    
+    // Her değişiklik günlükte diske indirilir. "Otomatik kaydet" her kaydı hemen, "sadece kapanirken" ise kısa süre
+    // gruplayarak tek fsync ile yazar; ana dosya iki modda da sıkıştırmada ve kapanışta yeniden yazılır.
+    private void applyJournalSyncSettings() {
+        eliminatedJournal.setBatchedSync(!autoSaveEliminatedWords);
+        savedJournal.setBatchedSync(!autoSaveSavedWords);
+    }
+    
+    private boolean isEliminatedWordsPersisted() {
+        return autoSaveEliminatedWords || saveOnlyOnExit;
+    }
+    
+    private boolean isSavedWordsPersisted() {
+        return autoSaveSavedWords || saveSavedWordsOnlyOnExit;
+    }
+    
+    // Ana dosya biçimi: en son eklenen en başta
+    private List<String> eliminatedWordsBaseLines() {
+        List<String> lines = new ArrayList<>(eliminatedWords.snapshot());
+        Collections.reverse(lines);
+        return lines;
+    }
+    
+    private List<String> savedWordsBaseLines() {
+        List<java.util.Map.Entry<String, String>> entries = savedWords.snapshot();
+        List<String> lines = new ArrayList<>(entries.size());
+        for (java.util.Map.Entry<String, String> entry : entries) {
+            lines.add(entry.getKey() + "=" + entry.getValue());
+        }
+        Collections.reverse(lines);
+        return lines;
+    }
+    
+    // Değişikliği günlüğe ekler; günlük ana dosyaya göre yeterince büyüdüyse arka planda sıkıştırır
+    private void journalEliminatedWords(String record) {
+        if (!isEliminatedWordsPersisted()) {
+            return;
+        }
+        eliminatedJournal.append(record);
+        if (eliminatedWordsLoaded && eliminatedJournal.needsCompaction(eliminatedWords.size())) {
+            eliminatedJournal.compact(eliminatedWordsBaseLines());
+        }
+    }
+    
+    private void journalSavedWords(String record) {
+        if (!isSavedWordsPersisted()) {
+            return;
+        }
+        savedJournal.append(record);
+        if (savedWordsLoaded && savedJournal.needsCompaction(savedWords.size())) {
+            savedJournal.compact(savedWordsBaseLines());
+        }
+    }
+    
+    // Ortak düzeltme sözlüğü: büyük, salt okunur "yanlis=dogru" listesi ikili sıralı tablo olarak tutulur.
+    // Dosya belleğe eşlenir, girdiler ayrıştırılmaz; sorgular ikili aramayla doğrudan eşlenmiş baytlar üzerinde yapılır.
+    // Kullanıcının kayıtlı kelimeleri her zaman önceliklidir.
+    private static final String SHARED_DICTIONARY_FILE = "KayitliKelimeler/ortak_sozluk.sst";
+    private volatile SortedStringTable sharedDictionary;
+    
+    // Önce kayıtlı kelimeler, yoksa ortak sözlük
+    private static String lookupCorrection(java.util.Map<String, String> saved, SortedStringTable shared, String word) {
+        String correction = saved.get(word);
+        if (correction == null && shared != null) {
+            correction = shared.get(word);
+        }
+        return correction;
+    }
+    
+    // Ortak sözlüğü açar (yoksa null). Açıkken yerine yazılamayan yeni sürüm ".yeni" olarak bekler ve burada devreye alınır.
+    private static SortedStringTable openSharedDictionary() {
+        File file = new File(SHARED_DICTIONARY_FILE);
+        File pending = new File(SHARED_DICTIONARY_FILE + ".yeni");
+        try {
+            if (pending.exists()) {
+                Files.move(pending.toPath(), file.toPath(), java.nio.file.StandardCopyOption.REPLACE_EXISTING);
+            }
+            if (!file.exists()) {
+                return null;
+            }
+            long start = System.nanoTime();
+            SortedStringTable table = SortedStringTable.open(file);
+            System.out.println(String.format("Ortak sozluk: %d girdi, %.1f ms (%d KB eslendi)",
+                table.size(), (System.nanoTime() - start) / 1_000_000.0, file.length() / 1024));
+            return table;
+        } catch (IOException e) {
+            System.err.println("Ortak sozluk acilamadi: " + e.getMessage());
+            return null;
+        }
+    }
+    
+    // Sıralı dize tablosu (SST). Biçim (big-endian):
+    //   başlık: sihirli sayı, sürüm, girdi sayısı, ayrılmış (4 x int)
+    //   indeks: girdi sayısı kadar int ofset
+    //   veri  : her girdi için anahtar uzunluğu (int), değer uzunluğu (int), UTF-8 anahtar, UTF-8 değer
+    // Anahtarlar UTF-8 baytlarının işaretsiz sırasına göre dizilidir; karşılaştırma için dize oluşturmaya gerek yoktur.
+    // Mutlak konumlu okuma yapıldığı için eşzamanlı sorgular güvenlidir.
+    private static class SortedStringTable {
+        private static final int MAGIC = 0x54535354; // "TSST"
+        private static final int VERSION = 1;
+        private static final int HEADER_BYTES = 16;
+        private static final java.nio.charset.Charset UTF8 = java.nio.charset.StandardCharsets.UTF_8;
+        
+        private final java.nio.MappedByteBuffer buffer;
+        private final int count;
+        
+        private SortedStringTable(java.nio.MappedByteBuffer buffer, int count) {
+            this.buffer = buffer;
+            this.count = count;
+        }
+        
+        static SortedStringTable open(File file) throws IOException {
+            try (java.nio.channels.FileChannel channel = java.nio.channels.FileChannel.open(file.toPath(), java.nio.file.StandardOpenOption.READ)) {
+                long size = channel.size();
+                if (size < HEADER_BYTES || size > Integer.MAX_VALUE) {
+                    throw new IOException("Gecersiz sozluk boyutu: " + size);
+                }
+                // Eşleme kanal kapandıktan sonra da geçerlidir
+                java.nio.MappedByteBuffer buffer = channel.map(java.nio.channels.FileChannel.MapMode.READ_ONLY, 0, size);
+                if (buffer.getInt(0) != MAGIC || buffer.getInt(4) != VERSION) {
+                    throw new IOException("Desteklenmeyen sozluk bicimi: " + file.getName());
+                }
+                int count = buffer.getInt(8);
+                if (count < 0 || HEADER_BYTES + (long) count * 4 > size) {
+                    throw new IOException("Bozuk sozluk dosyasi: " + file.getName());
+                }
+                return new SortedStringTable(buffer, count);
+            }
+        }
+        
+        int size() {
+            return count;
+        }
+        
+        String get(String key) {
+            byte[] target = key.getBytes(UTF8);
+            int low = 0;
+            int high = count - 1;
+            while (low <= high) {
+                int mid = (low + high) >>> 1;
+                int entry = buffer.getInt(HEADER_BYTES + mid * 4);
+                int cmp = compareKey(entry, target);
+                if (cmp < 0) {
+                    low = mid + 1;
+                } else if (cmp > 0) {
+                    high = mid - 1;
+                } else {
+                    int keyLength = buffer.getInt(entry);
+                    return readString(entry + 8 + keyLength, buffer.getInt(entry + 4));
+                }
+            }
+            return null;
+        }
+        
+        private int compareKey(int entry, byte[] target) {
+            int keyLength = buffer.getInt(entry);
+            int start = entry + 8;
+            int n = Math.min(keyLength, target.length);
+            for (int i = 0; i < n; i++) {
+                int a = buffer.get(start + i) & 0xFF;
+                int b = target[i] & 0xFF;
+                if (a != b) {
+                    return a - b;
+                }
+            }
+            return keyLength - target.length;
+        }
+        
+        private String readString(int offset, int length) {
+            byte[] bytes = new byte[length];
+            for (int i = 0; i < length; i++) {
+                bytes[i] = buffer.get(offset + i);
+            }
+            return new String(bytes, UTF8);
+        }
+        
+        // Tüm girdileri anahtar sırasıyla gezer (metne dışa aktarma için)
+        void forEach(java.util.function.BiConsumer<String, String> action) {
+            for (int i = 0; i < count; i++) {
+                int entry = buffer.getInt(HEADER_BYTES + i * 4);
+                int keyLength = buffer.getInt(entry);
+                action.accept(readString(entry + 8, keyLength), readString(entry + 8 + keyLength, buffer.getInt(entry + 4)));
+            }
+        }
+        
+        // Girdileri sıralayıp tabloyu yazar (aynı anahtar birden çok kez varsa sonuncusu geçerlidir), yazılan girdi sayısını döner
+        static int write(java.util.Map<String, String> entries, File file) throws IOException {
+            java.util.TreeMap<byte[], byte[]> sorted = new java.util.TreeMap<>(java.util.Arrays::compareUnsigned);
+            for (java.util.Map.Entry<String, String> entry : entries.entrySet()) {
+                sorted.put(entry.getKey().getBytes(UTF8), entry.getValue().getBytes(UTF8));
+            }
+            File temp = new File(file.getPath() + ".tmp");
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(temp), 1 << 16))) {
+                out.writeInt(MAGIC);
+                out.writeInt(VERSION);
+                out.writeInt(sorted.size());
+                out.writeInt(0);
+                long offset = HEADER_BYTES + (long) sorted.size() * 4;
+                for (java.util.Map.Entry<byte[], byte[]> entry : sorted.entrySet()) {
+                    if (offset > Integer.MAX_VALUE) {
+                        throw new IOException("Sozluk 2 GB sinirini asiyor");
+                    }
+                    out.writeInt((int) offset);
+                    offset += 8 + entry.getKey().length + entry.getValue().length;
+                }
+                for (java.util.Map.Entry<byte[], byte[]> entry : sorted.entrySet()) {
+                    out.writeInt(entry.getKey().length);
+                    out.writeInt(entry.getValue().length);
+                    out.write(entry.getKey());
+                    out.write(entry.getValue());
+                }
+            }
+            Files.move(temp.toPath(), file.toPath(), java.nio.file.StandardCopyOption.REPLACE_EXISTING);
+            return sorted.size();
+        }
+    }
+    
+    // İşlenen dosyada hatalı bulunan ya da ön geçişte düzeltilen kelimeler (yalnızca denetim iş parçacığı kullanır)
+    private Set<String> currentFileScannedWords;
+    
+    // Kelime sınırlarına oturan çoklu desen değiştirici (Aho-Corasick).
+    // Desenler yalnızca önceki ve sonraki karakter kelime karakteri değilse eşleşir; çakışmalarda en soldaki, sonra en uzun desen seçilir.
+    private static class SavedWordAutomaton {
+        // Ön geçiş sonucu: yeni metin, değişiklik sayısı ve düzeltme günlüğü satırları için ayrıntılar
+        static final class Replacements {
+            final String text;
+            final int count;
+            final int[] lineNumbers;
+            final int[] offsets;       // değişikliğin orijinal metindeki başlangıcı
+            final int[] resultOffsets; // değişikliğin sonuç metnindeki başlangıcı
+            final String[] wrongWords;
+            final String[] correctWords;
+            
+            Replacements(String text, int count, int[] lineNumbers, int[] offsets, int[] resultOffsets, String[] wrongWords, String[] correctWords) {
+                this.text = text;
+                this.count = count;
+                this.lineNumbers = lineNumbers;
+                this.offsets = offsets;
+                this.resultOffsets = resultOffsets;
+                this.wrongWords = wrongWords;
+                this.correctWords = correctWords;
+            }
+            
+            // Sonuç metnindeki ofseti orijinal metindeki ofsete çevirir (değiştirilen kelimenin içi, başlangıcına eşlenir)
+            int originalOffset(int resultOffset) {
+                int k = java.util.Arrays.binarySearch(resultOffsets, 0, count, resultOffset);
+                k = k >= 0 ? k : -k - 2;
+                if (k < 0) {
+                    return resultOffset;
+                }
+                int resultEnd = resultOffsets[k] + correctWords[k].length();
+                if (resultOffset < resultEnd) {
+                    return offsets[k];
+                }
+                return resultOffset - resultEnd + offsets[k] + wrongWords[k].length();
+            }
+        }
+        
+        private final String[] patterns;
+        private final String[] replacements;
+        // Geçişler: (düğüm << 16 | karakter) -> çocuk düğüm, açık adresli tabloda
+        private long[] transitionKeys;
+        private int[] transitionValues;
+        private int transitionCount = 0;
+        private int[] fail;
+        private int[] output;     // bu düğümde biten desen (-1: yok)
+        private int[] outputLink; // hata zincirinde desen biten en yakın düğüm (-1: yok)
+        private int nodeCount = 1;
+        
+        private SavedWordAutomaton(String[] patterns, String[] replacements) {
+            this.patterns = patterns;
+            this.replacements = replacements;
+        }
+        
+        static SavedWordAutomaton build(List<java.util.Map.Entry<String, String>> entries) {
+            String[] patterns = new String[entries.size()];
+            String[] replacements = new String[entries.size()];
+            int totalChars = 0;
+            for (int i = 0; i < entries.size(); i++) {
+                patterns[i] = entries.get(i).getKey();
+                replacements[i] = entries.get(i).getValue();
+                totalChars += patterns[i].length();
+            }
+            SavedWordAutomaton automaton = new SavedWordAutomaton(patterns, replacements);
+            automaton.buildTrie(totalChars + 1);
+            automaton.buildFailureLinks();
+            return automaton;
+        }
+        
+        private void buildTrie(int maxNodes) {
+            int capacity = Integer.highestOneBit(Math.max(16, maxNodes * 2)) << 1;
+            transitionKeys = new long[capacity];
+            transitionValues = new int[capacity];
+            java.util.Arrays.fill(transitionKeys, -1L);
+            output = new int[maxNodes];
+            java.util.Arrays.fill(output, -1);
+            for (int p = 0; p < patterns.length; p++) {
+                String pattern = patterns[p];
+                if (pattern.isEmpty()) {
+                    continue;
+                }
+                int node = 0;
+                for (int i = 0; i < pattern.length(); i++) {
+                    int next = child(node, pattern.charAt(i));
+                    if (next < 0) {
+                        next = nodeCount++;
+                        putChild(node, pattern.charAt(i), next);
+                    }
+                    node = next;
+                }
+                output[node] = p;
+            }
+        }
+        
+        private void buildFailureLinks() {
+            fail = new int[nodeCount];
+            outputLink = new int[nodeCount];
+            java.util.Arrays.fill(outputLink, -1);
+            // Çocukları düğüm sırasıyla gezebilmek için geçişleri ebeveyne göre grupla
+            int[] childStart = new int[nodeCount + 1];
+            for (int slot = 0; slot < transitionKeys.length; slot++) {
+                if (transitionKeys[slot] >= 0) {
+                    childStart[(int) (transitionKeys[slot] >>> 16) + 1]++;
+                }
+            }
+            for (int i = 0; i < nodeCount; i++) {
+                childStart[i + 1] += childStart[i];
+            }
+            int[] childChars = new int[transitionCount];
+            int[] childNodes = new int[transitionCount];
+            int[] fill = java.util.Arrays.copyOf(childStart, nodeCount);
+            for (int slot = 0; slot < transitionKeys.length; slot++) {
+                if (transitionKeys[slot] >= 0) {
+                    int parent = (int) (transitionKeys[slot] >>> 16);
+                    childChars[fill[parent]] = (int) (transitionKeys[slot] & 0xFFFF);
+                    childNodes[fill[parent]++] = transitionValues[slot];
+                }
+            }
+            // Genişlik öncelikli: kökün çocuklarının hata bağlantısı köktür
+            int[] queue = new int[nodeCount];
+            int head = 0;
+            int tail = 0;
+            queue[tail++] = 0;
+            while (head < tail) {
+                int node = queue[head++];
+                for (int k = childStart[node]; k < childStart[node + 1]; k++) {
+                    char c = (char) childChars[k];
+                    int next = childNodes[k];
+                    int f = node == 0 ? -1 : fail[node];
+                    int target = 0;
+                    while (f >= 0) {
+                        int candidate = child(f, c);
+                        if (candidate >= 0) {
+                            target = candidate;
+                            break;
+                        }
+                        f = f == 0 ? -1 : fail[f];
+                    }
+                    fail[next] = target;
+                    outputLink[next] = output[target] >= 0 ? target : outputLink[target];
+                    queue[tail++] = next;
+                }
+            }
+        }
+        
+        private int slotFor(long key) {
+            long h = key * 0x9E3779B97F4A7C15L;
+            int mask = transitionKeys.length - 1;
+            int slot = (int) (h >>> 40) & mask;
+            while (transitionKeys[slot] != -1L && transitionKeys[slot] != key) {
+                slot = (slot + 1) & mask;
+            }
+            return slot;
+        }
+        
+        private int child(int node, char c) {
+            int slot = slotFor(((long) node << 16) | c);
+            return transitionKeys[slot] == -1L ? -1 : transitionValues[slot];
+        }
+        
+        private void putChild(int node, char c, int next) {
+            long key = ((long) node << 16) | c;
+            int slot = slotFor(key);
+            transitionKeys[slot] = key;
+            transitionValues[slot] = next;
+            transitionCount++;
+        }
+        
+        // Kesme işareti de kelimenin parçası sayılır ("Ankara'ya" tek token)
+        private static boolean isWordChar(char c) {
+            return Character.isLetterOrDigit(c) || c == '\'' || c == '\u2019';
+        }
+        
+        Replacements apply(String text, int firstLineNumber) {
+            if (patterns.length == 0) {
+                return new Replacements(text, 0, new int[0], new int[0], new int[0], new String[0], new String[0]);
+            }
+            // Sınırlara oturan tüm eşleşmeleri topla: (başlangıç, desen)
+            List<long[]> matches = new ArrayList<>();
+            int state = 0;
+            for (int i = 0; i < text.length(); i++) {
+                char c = text.charAt(i);
+                int next = child(state, c);
+                while (next < 0 && state != 0) {
+                    state = fail[state];
+                    next = child(state, c);
+                }
+                state = next < 0 ? 0 : next;
+                for (int node = output[state] >= 0 ? state : outputLink[state]; node >= 0; node = outputLink[node]) {
+                    int pattern = output[node];
+                    int start = i - patterns[pattern].length() + 1;
+                    boolean boundaryBefore = start == 0 || !isWordChar(text.charAt(start - 1));
+                    boolean boundaryAfter = i + 1 == text.length() || !isWordChar(text.charAt(i + 1));
+                    if (boundaryBefore && boundaryAfter) {
+                        matches.add(new long[]{start, pattern});
+                    }
+                }
+            }
+            if (matches.isEmpty()) {
+                return new Replacements(text, 0, new int[0], new int[0], new int[0], new String[0], new String[0]);
+            }
+            // En soldaki, eşitlikte en uzun eşleşme; çakışanlar atlanır
+            matches.sort((a, b) -> a[0] != b[0] ? Long.compare(a[0], b[0])
+                : Integer.compare(patterns[(int) b[1]].length(), patterns[(int) a[1]].length()));
+            StringBuilder result = new StringBuilder(text.length());
+            int[] lineNumbers = new int[matches.size()];
+            int[] offsets = new int[matches.size()];
+            int[] resultOffsets = new int[matches.size()];
+            String[] wrongWords = new String[matches.size()];
+            String[] correctWords = new String[matches.size()];
+            int count = 0;
+            int position = 0;
+            int lineNumber = firstLineNumber;
+            for (long[] match : matches) {
+                int start = (int) match[0];
+                if (start < position) {
+                    continue;
+                }
+                int pattern = (int) match[1];
+                for (int i = position; i < start; i++) {
+                    if (text.charAt(i) == '\n') {
+                        lineNumber++;
+                    }
+                }
+                result.append(text, position, start);
+                offsets[count] = start;
+                resultOffsets[count] = result.length();
+                result.append(replacements[pattern]);
+                lineNumbers[count] = lineNumber;
+                wrongWords[count] = patterns[pattern];
+                correctWords[count] = replacements[pattern];
+                count++;
+                position = start + patterns[pattern].length();
+            }
+            result.append(text, position, text.length());
+            return new Replacements(result.toString(), count, java.util.Arrays.copyOf(lineNumbers, count),
+                java.util.Arrays.copyOf(offsets, count), java.util.Arrays.copyOf(resultOffsets, count),
+                java.util.Arrays.copyOf(wrongWords, count), java.util.Arrays.copyOf(correctWords, count));
+        }
+    }
+    
+    // Metin biçimindeki bir düzeltme listesini ikili sözlüğe derler (günlük kayıtları da uygulanır)
+    private static int compileSharedDictionary(File textFile, File binaryFile) throws IOException {
+        java.util.Map<String, String> entries = new java.util.LinkedHashMap<>();
+        readSavedWords(textFile, entries);
+        return SortedStringTable.write(entries, binaryFile);
+    }
+    
+    private static int exportSharedDictionary(File binaryFile, File textFile) throws IOException {
+        SortedStringTable table = SortedStringTable.open(binaryFile);
+        try (BufferedWriter writer = new BufferedWriter(new OutputStreamWriter(new FileOutputStream(textFile), "UTF-8"))) {
+            IOException[] failure = new IOException[1];
+            table.forEach((key, value) -> {
+                if (failure[0] == null) {
+                    try {
+                        writer.write(key + "=" + value);
+                        writer.newLine();
+                    } catch (IOException e) {
+                        failure[0] = e;
+                    }
+                }
+            });
+            if (failure[0] != null) {
+                throw failure[0];
+            }
+        }
+        return table.size();
+    }
+    
+    // Metin listesini LinkedHashMap'e yüklemek ile ikili sözlüğü eşleyip sorgulamayı süre ve heap açısından karşılaştırır
+    private static void compareDictionaryLoad(File textFile) throws IOException {
+        Runtime runtime = Runtime.getRuntime();
+        File binaryFile = File.createTempFile("ortak_sozluk", ".sst");
+        binaryFile.deleteOnExit();
+        compileSharedDictionary(textFile, binaryFile);
+        
+        System.gc();
+        long heapBefore = runtime.totalMemory() - runtime.freeMemory();
+        long start = System.nanoTime();
+        java.util.Map<String, String> map = new java.util.LinkedHashMap<>();
+        readSavedWords(textFile, map);
+        long textNanos = System.nanoTime() - start;
+        System.gc();
+        long textHeap = runtime.totalMemory() - runtime.freeMemory() - heapBefore;
+        List<String> sampleKeys = new ArrayList<>();
+        int step = Math.max(1, map.size() / 10_000);
+        int index = 0;
+        for (String key : map.keySet()) {
+            if (index++ % step == 0) {
+                sampleKeys.add(key);
+            }
+        }
+        System.out.println(String.format("Metin (LinkedHashMap): %d girdi, %.1f ms, ~%d KB heap",
+            map.size(), textNanos / 1_000_000.0, textHeap / 1024));
+        map = null;
+        
+        System.gc();
+        heapBefore = runtime.totalMemory() - runtime.freeMemory();
+        start = System.nanoTime();
+        SortedStringTable table = SortedStringTable.open(binaryFile);
+        long openNanos = System.nanoTime() - start;
+        System.gc();
+        long tableHeap = runtime.totalMemory() - runtime.freeMemory() - heapBefore;
+        start = System.nanoTime();
+        int found = 0;
+        for (String key : sampleKeys) {
+            if (table.get(key) != null) {
+                found++;
+            }
+        }
+        long lookupNanos = System.nanoTime() - start;
+        System.out.println(String.format("Ikili sozluk (SST)   : %d girdi, %.1f ms, ~%d KB heap (%d KB eslendi)",
+            table.size(), openNanos / 1_000_000.0, Math.max(0, tableHeap) / 1024, binaryFile.length() / 1024));
+        System.out.println(String.format("SST sorgusu          : %d/%d bulundu, ortalama %.2f us",
+            found, sampleKeys.size(), sampleKeys.isEmpty() ? 0.0 : lookupNanos / 1000.0 / sampleKeys.size()));
+    }
+    
+    // Elenenler veya kayıtlı kelimeler değiştiğinde önbellekleri geçersiz kılar (word == null: toplu değişiklik)
+    private void onDictionaryChanged(String word) {
+        SpellCheckEngine current = engine;
+        if (current != null) {
+            current.dictionaryChanged(word);
+        }
+        LiveSpellChecker live = liveSpellChecker;
+        if (live != null) {
+            SwingUtilities.invokeLater(() -> {
+                if (word == null) {
+                    live.recheckAll();
+                } else {
+                    live.recheckWord(word);
+                }
+            });
+        }
+    }
+    
+    private boolean addEliminatedWord(String word) {
+        boolean added = eliminatedWords.add(word);
+        if (added) {
+            journalEliminatedWords(DictionaryJournal.ADD + word);
+            onDictionaryChanged(word);
+        }
+        return added;
+    }
+    
+    private void removeEliminatedWord(String word) {
+        if (eliminatedWords.remove(word)) {
+            journalEliminatedWords(DictionaryJournal.REMOVE + word);
+            onDictionaryChanged(word);
+        }
+    }
+    
+    private void clearEliminatedWords() {
+        eliminatedWords.clear();
+        journalEliminatedWords(DictionaryJournal.CLEAR);
+        onDictionaryChanged(null);
+    }
+    
+    private void putSavedWord(String wrongWord, String correctWord) {
+        savedWords.put(wrongWord, correctWord);
+        journalSavedWords(DictionaryJournal.ADD + wrongWord + "=" + correctWord);
+        onDictionaryChanged(wrongWord);
+    }
+    
+    private void removeSavedWord(String wrongWord) {
+        if (savedWords.remove(wrongWord) != null) {
+            journalSavedWords(DictionaryJournal.REMOVE + wrongWord);
+            onDictionaryChanged(wrongWord);
+        }
+    }
+    
+    private void clearSavedWords() {
+        savedWords.clear();
+        journalSavedWords(DictionaryJournal.CLEAR);
+        onDictionaryChanged(null);
+    }
+    
+    private void selectFiles(boolean forNewWorkspace) {
+        JFileChooser fileChooser = new JFileChooser(lastFileChooserDirectory);
+        fileChooser.setFileFilter(new FileNameExtensionFilter("Metin Dosyalari", "txt"));
+        fileChooser.setMultiSelectionEnabled(true);
+        
+        int result = fileChooser.showOpenDialog(this);
+        if (result == JFileChooser.APPROVE_OPTION) {
+            File[] files = fileChooser.getSelectedFiles();
+            
+            // Eğer aktif bir çalışma alanı varsa ve bu yeni bir çalışma alanı için dosya seçimi değilse, çalışma alanından çık
+            if (currentWorkspaceDir != null && !forNewWorkspace) {
+                String workspaceName = currentWorkspaceName;
+                currentWorkspaceName = null;
+                currentWorkspaceDir = null;
+                
+                // Sol panel başlığını güncelle
+                updateLeftPanelTitle();
+                
+                JOptionPane.showMessageDialog(this, 
+                    "Calisma alani '" + workspaceName + "' kapatildi. Normal moda gecildi.", 
+                    "Calisma Alani Kapatildi", JOptionPane.INFORMATION_MESSAGE);
+            }
+            
+            // Son seçilen dosyanın konumunu kaydet
+            if (files.length > 0) {
+                lastFileChooserDirectory = files[0].getParentFile();
+                System.out.println("Dosya seçimi sırasında lastFileChooserDirectory ayarlandı: " + lastFileChooserDirectory.getAbsolutePath());
+                // Ayarlara kaydet
+                saveSettings();
             }
             
+            cancelPrescan();
             selectedFiles.clear();
             fileListModel.clear();
             
@@ -553,6 +3798,8 @@ public class TurkishSpellCheckerSimple extends JFrame {
             currentFileIndex = 0;
             currentIncorrectWordIndex = 0;
             pausedIncorrectWordIndex = 0;
+            pausedChunkIndex = 0;
+            spellCheckScheduler.cancel();
             isRunning.set(false);
             isPaused.set(false);
             
@@ -598,6 +3845,9 @@ public class TurkishSpellCheckerSimple extends JFrame {
             }
 
             if (fileToLoad == null || !fileToLoad.exists()) {
+                displayedFileName = null;
+                inputViewer.showText();
+                outputViewer.showText();
                 inputArea.setText("");
                 outputArea.setText("");
                 statusLabel.setText("Dosya bulunamadi: " + listFile.getName());
@@ -605,8 +3855,15 @@ public class TurkishSpellCheckerSimple extends JFrame {
             }
                 
             try {
-                String content = new String(Files.readAllBytes(fileToLoad.toPath()), "UTF-8");
-                inputArea.setText(content);
+                displayedFileName = fileToLoad.getName();
+                // Büyük dosyalar belleğe alınmaz, sanal görüntüleyicide görünen satırlar diskten okunur
+                if (isStreamingFile(fileToLoad)) {
+                    inputViewer.showFile(fileToLoad);
+                    inputArea.setText("");
+                } else {
+                    inputViewer.showText();
+                    inputArea.setText(new String(Files.readAllBytes(fileToLoad.toPath()), "UTF-8"));
+                }
                 
                 // Düzeltilmiş dosyayı kontrol et ve yükle
                 String correctedFilePath;
@@ -618,10 +3875,14 @@ public class TurkishSpellCheckerSimple extends JFrame {
                     correctedFilePath = "Sonuc/" + listFile.getName();
                 }
                 File correctedFile = new File(correctedFilePath);
-                if (correctedFile.exists()) {
-                    String correctedContent = new String(Files.readAllBytes(correctedFile.toPath()), "UTF-8");
-                    outputArea.setText(correctedContent);
+                if (correctedFile.exists() && isStreamingFile(correctedFile)) {
+                    outputViewer.showFile(correctedFile);
+                    outputArea.setText("");
+                } else if (correctedFile.exists()) {
+                    outputViewer.showText();
+                    outputArea.setText(new String(Files.readAllBytes(correctedFile.toPath()), "UTF-8"));
                 } else {
+                    outputViewer.showText();
                     outputArea.setText("");
                 }
                 
@@ -643,9 +3904,39 @@ public class TurkishSpellCheckerSimple extends JFrame {
                 "Uyari", JOptionPane.WARNING_MESSAGE);
             return;
         }
+        
+        // Zemberek henüz yüklenmediyse, yükleme bitince başlatmayı tekrar dene
+        if (!zemberekReady.isDone()) {
+            if (!startPendingOnLoad) {
+                startPendingOnLoad = true;
+                startButton.setEnabled(false);
+                zemberekReady.whenComplete((ignored, error) -> SwingUtilities.invokeLater(() -> {
+                    startPendingOnLoad = false;
+                    startButton.setEnabled(true);
+                    if (error == null) {
+                        startSpellChecking();
+                    }
+                }));
+            }
+            statusLabel.setText("Zemberek yuklenince yazim denetimi baslayacak...");
+            return;
+        }
+        if (zemberekReady.isCompletedExceptionally()) {
+            JOptionPane.showMessageDialog(this, 
+                "Zemberek yuklenemedigi icin yazim denetimi baslatilamiyor.",
+                "Hata", JOptionPane.ERROR_MESSAGE);
+            return;
+        }
+        if (spellCheckScheduler.isActive()) {
+            JOptionPane.showMessageDialog(this, 
+                "Devam eden bir yazim denetimi var.",
+                "Uyari", JOptionPane.WARNING_MESSAGE);
+            return;
+        }
 
-        String[] options = {"Tumunu Tara", "Seciliden Basla", "Iptal"};
-        String message = "Yazim denetimine nasil baslamak istersiniz?";
+        String[] options = {"Tumunu Tara", "Seciliden Basla", "Benzersiz Kelimeler", "Iptal"};
+        String message = "Yazim denetimine nasil baslamak istersiniz?"
+            + "\n('Benzersiz Kelimeler': her hatali kelime tum dosyalar icin bir kez, en sik olandan baslayarak sorulur.)";
         if (currentWorkspaceDir != null) {
             message += "\n('Tarandi' klasorundeki dosyalar tekrar taranmak uzere geri tasinacaktir.)";
         }
@@ -659,40 +3950,860 @@ public class TurkishSpellCheckerSimple extends JFrame {
                 options,
                 options[0]);
 
-        if (choice == 2 || choice == JOptionPane.CLOSED_OPTION) { // Cancel or closed
+        if (choice == 3 || choice == JOptionPane.CLOSED_OPTION) { // Cancel or closed
+            return;
+        }
+        
+        if (choice == 2) { // "Benzersiz Kelimeler"
+            currentFileIndex = 0;
+            isRunning.set(true);
+            isPaused.set(false);
+            correctionsLog.setLength(0);
+            startButton.setEnabled(false);
+            continueButton.setEnabled(false);
+            progressBar.setValue(0);
+            cancelPrescan(); // Bu mod dosyaları kendi toplama aşamasında tarar
+            spellCheckScheduler.submit(this::reviewUniqueMisspellings);
             return;
         }
-
-        int startIndex = 0;
-        if (choice == 1) { // "Seçiliden Başla"
-            startIndex = fileList.getSelectedIndex();
-            if (startIndex < 0) {
-                startIndex = 0; 
+
+        int startIndex = 0;
+        if (choice == 1) { // "Seçiliden Başla"
+            startIndex = fileList.getSelectedIndex();
+            if (startIndex < 0) {
+                startIndex = 0; 
+            }
+        }
+        
+        currentFileIndex = startIndex;
+        
+        isRunning.set(true);
+        isPaused.set(false);
+        correctionsLog.setLength(0);
+        startButton.setEnabled(false);
+        continueButton.setEnabled(false);
+        progressBar.setValue(0);
+        
+        // Zamanlayıcının denetim iş parçacığında çalıştır: önce değişmemiş dosyaları belirle,
+        // sonra kalanları arka planda paralel olarak ön taramaya başla
+        final int prescanFrom = startIndex;
+        spellCheckScheduler.submit(() -> {
+            findUpToDateFiles();
+            startPrescan(prescanFrom);
+            processAllFiles();
+        });
+    }
+    
+    // Listeden seçilen dosyanın okunacağı gerçek konumu bulur (loadFile ile aynı kural)
+    private File resolveWorkingFile(File listFile) {
+        if (currentWorkspaceDir != null) {
+            File taranacakFile = new File(new File(currentWorkspaceDir, "Taranacak"), listFile.getName());
+            File tarandiFile = new File(new File(currentWorkspaceDir, "Tarandi"), listFile.getName());
+            if (tarandiFile.exists()) {
+                return tarandiFile;
+            } else if (taranacakFile.exists()) {
+                return taranacakFile;
+            }
+            return null;
+        }
+        return listFile.exists() ? listFile : null;
+    }
+    
+    private void startPrescan(int fromIndex) {
+        cancelPrescan();
+        synchronized (prescanResults) {
+            prescanNextIndex = fromIndex;
+        }
+        fillPrescanWindow();
+    }
+    
+    private void cancelPrescan() {
+        synchronized (prescanResults) {
+            for (CompletableFuture<PrescanResult> future : prescanResults.values()) {
+                future.cancel(false);
+            }
+            prescanResults.clear();
+            prescanNextIndex = 0;
+        }
+    }
+    
+    // Bellek kullanımını sınırlamak için en fazla PRESCAN_WINDOW dosya önceden taranmış olarak tutulur
+    private void fillPrescanWindow() {
+        synchronized (prescanResults) {
+            while (prescanNextIndex < selectedFiles.size() && prescanResults.size() < PRESCAN_WINDOW) {
+                File listFile = selectedFiles.get(prescanNextIndex++);
+                if (upToDateFiles.contains(listFile)) {
+                    continue; // Son taramadan beri değişmedi, atlanacak
+                }
+                File sourceFile = resolveWorkingFile(listFile);
+                if (sourceFile == null || isStreamingFile(sourceFile)) {
+                    continue; // Büyük dosyalar akış modunda parça parça taranır
+                }
+                prescanResults.put(listFile, CompletableFuture.supplyAsync(() -> {
+                    try {
+                        return prescanFile(sourceFile);
+                    } catch (IOException e) {
+                        throw new CompletionException(e);
+                    }
+                }, prescanPool));
+            }
+        }
+    }
+    
+    private PrescanResult prescanFile(File sourceFile) throws IOException {
+        String content = new String(Files.readAllBytes(sourceFile.toPath()), "UTF-8");
+        return prescanText(content, 1);
+    }
+    
+    private PrescanResult prescanText(String originalContent, int firstLineNumber) {
+        return engine.prescan(originalContent, firstLineNumber, 0);
+    }
+    
+    private PrescanResult prescanText(String originalContent, int firstLineNumber, long firstOffset) {
+        return engine.prescan(originalContent, firstLineNumber, firstOffset);
+    }
+    
+    private boolean isStreamingFile(File file) {
+        return file.length() >= (long) streamingThresholdMB * 1024 * 1024;
+    }
+    
+    private TextChunkSource openChunkSource(File file, int chunkChars) throws IOException {
+        return openChunkSource(file, chunkChars, memoryMappedReader);
+    }
+    
+    // Bellek eşlemeli veya tamponlu okuyucuyu açar; eşleme başarısız olursa tamponlu okuyucuya düşer
+    private static TextChunkSource openChunkSource(File file, int chunkChars, boolean memoryMapped) throws IOException {
+        if (memoryMapped) {
+            try {
+                return new MappedChunkSource(file, chunkChars);
+            } catch (IOException | UnsupportedOperationException e) {
+                System.err.println("Bellek esleme kullanilamadi, tamponlu okuma kullaniliyor: " + e.getMessage());
+            }
+        }
+        return new ReaderChunkSource(file, chunkChars);
+    }
+    
+    // Okuma hızını MB/s olarak biçimlendirir
+    private static String formatThroughput(long bytes, long nanos) {
+        double seconds = Math.max(nanos, 1) / 1_000_000_000.0;
+        return String.format("%.1f MB/s", bytes / (1024.0 * 1024.0) / seconds);
+    }
+    
+    // Mevcut okuma yolu (readAllBytes + String) ile parça okuyucuların hızını karşılaştırır: --okuma-karsilastir <dosya>
+    private static void compareReadThroughput(File file) throws IOException {
+        long size = file.length();
+        System.out.println("Dosya: " + file.getName() + " (" + (size / (1024 * 1024)) + " MB)");
+        
+        long start = System.nanoTime();
+        try {
+            String whole = new String(Files.readAllBytes(file.toPath()), "UTF-8");
+            System.out.println("readAllBytes + String : " + formatThroughput(size, System.nanoTime() - start) + " (" + whole.length() + " karakter)");
+        } catch (OutOfMemoryError e) {
+            System.out.println("readAllBytes + String : bellek yetersiz (OutOfMemoryError)");
+        }
+        
+        start = System.nanoTime();
+        long chars = drainChunkSource(new ReaderChunkSource(file, STREAMING_CHUNK_CHARS));
+        System.out.println("Tamponlu okuyucu      : " + formatThroughput(size, System.nanoTime() - start) + " (" + chars + " karakter)");
+        
+        start = System.nanoTime();
+        chars = drainChunkSource(new MappedChunkSource(file, STREAMING_CHUNK_CHARS));
+        System.out.println("Bellek eslemeli okuyucu: " + formatThroughput(size, System.nanoTime() - start) + " (" + chars + " karakter)");
+    }
+    
+    // Yazım denetimi sıcak yolunun ölçümü: --olcum [--korpus <dosya|klasor>] [--sure-ms 1000] [--kaydet <dosya>] [--taban <dosya>] [--esik 10]
+    // Aşamalar: tokenize, check, suggestForWord, kayıtlı kelime sorgusu, kayıtlı kelime ön geçişi ve etkileşimsiz tam geçiş.
+    // Korpuslar sabit tohumla üretilen sentetik metin ve örnek Türkçe metindir (üç boyutta); aynı sürümde aynı girdi ölçülür.
+    // Her ölçüm önce ısınır, sonra süre boyunca tekrar eder; işlem/s ile iş parçacığının ayırdığı bayt/işlem ve GC sayısı raporlanır.
+    // Morfoloji, yüklendikten hemen sonraki ilk check geçişiyle (soğuk) ve ısındıktan sonra ayrıca ölçülür.
+    // --kaydet sonuçları taban dosyasına yazar; --taban ile karşılaştırmada eşikten fazla yavaşlayan ölçüm varsa çıkış kodu 1 olur.
+    private static class SpellCheckBenchmark {
+        private static final long SEED = 20240101L;
+        private static final int MISSPELLING_PERCENT = 5;
+        private static final int SUGGEST_SAMPLE_WORDS = 200;
+        private static final String[] SIZE_NAMES = {"kucuk", "orta", "buyuk"};
+        private static final int[] SIZE_WORDS = {1_000, 20_000, 200_000};
+        private static final String SAMPLE_TEXT =
+            "Türkiye'nin en kalabalık şehri olan İstanbul, tarih boyunca birçok medeniyete başkentlik yapmıştır. "
+            + "Boğaz'ın iki yakasına yayılan şehir, Avrupa ile Asya'yı birbirine bağlayan köprüleriyle tanınır.\n"
+            + "Öğrenciler sabah erkenden okula gitmek için otobüse bindiler; yolda arkadaşlarıyla sınavlar hakkında konuştular. "
+            + "Öğretmenleri, ödevlerin zamanında teslim edilmesinin önemini bir kez daha hatırlattı.\n"
+            + "Kütüphanedeki eski kitapların çoğu, yıllar önce bağışlanan özel koleksiyonlardan gelmektedir. "
+            + "Araştırmacılar bu belgeleri inceleyerek şehrin geçmişine ışık tutan yeni bilgilere ulaştılar.\n"
+            + "Hafta sonu ailece pikniğe gittik, ağaçların gölgesinde çay içip uzun uzun sohbet ettik. "
+            + "Akşamüstü hava serinleyince eşyalarımızı toplayıp eve döndük.\n";
+        
+        private static final class Result {
+            final String name;
+            final String unit;
+            final double opsPerSecond;
+            final double bytesPerOp;
+            final long gcCount;
+            final long gcMillis;
+            
+            Result(String name, String unit, double opsPerSecond, double bytesPerOp, long gcCount, long gcMillis) {
+                this.name = name;
+                this.unit = unit;
+                this.opsPerSecond = opsPerSecond;
+                this.bytesPerOp = bytesPerOp;
+                this.gcCount = gcCount;
+                this.gcMillis = gcMillis;
+            }
+        }
+        
+        // Bir ölçüm turu; işlenen birim sayısını (token, kelime, karakter) döner
+        private interface Operation {
+            long run() throws IOException;
+        }
+        
+        private final long durationNanos;
+        private final File sampleCorpus;
+        private final List<Result> results = new ArrayList<>();
+        private final java.lang.management.ThreadMXBean threads = java.lang.management.ManagementFactory.getThreadMXBean();
+        private final java.util.Map<String, String> saved = new java.util.LinkedHashMap<>();
+        private long sink; // JIT'in sonuçları atmaması için
+        
+        SpellCheckBenchmark(long durationMillis, File sampleCorpus) {
+            this.durationNanos = durationMillis * 1_000_000L;
+            this.sampleCorpus = sampleCorpus;
+        }
+        
+        static int runFromArgs(String[] args) {
+            long durationMillis = 1000;
+            File sampleCorpus = null;
+            File saveFile = null;
+            File baselineFile = null;
+            double thresholdPercent = 10;
+            try {
+                for (int i = 1; i < args.length; i++) {
+                    switch (args[i]) {
+                        case "--korpus":
+                            sampleCorpus = new File(args[++i]);
+                            break;
+                        case "--sure-ms":
+                            durationMillis = Long.parseLong(args[++i]);
+                            break;
+                        case "--kaydet":
+                            saveFile = new File(args[++i]);
+                            break;
+                        case "--taban":
+                            baselineFile = new File(args[++i]);
+                            break;
+                        case "--esik":
+                            thresholdPercent = Double.parseDouble(args[++i]);
+                            break;
+                        default:
+                            throw new IllegalArgumentException(args[i]);
+                    }
+                }
+            } catch (RuntimeException e) {
+                System.err.println("Kullanim: --olcum [--korpus <dosya|klasor>] [--sure-ms 1000] [--kaydet <dosya>] [--taban <dosya>] [--esik 10]");
+                return BatchRunner.EXIT_FAILURE;
+            }
+            try {
+                SpellCheckBenchmark benchmark = new SpellCheckBenchmark(durationMillis, sampleCorpus);
+                benchmark.run();
+                if (saveFile != null) {
+                    benchmark.save(saveFile);
+                    System.out.println("Sonuclar kaydedildi: " + saveFile.getPath());
+                }
+                if (baselineFile != null) {
+                    return benchmark.compare(baselineFile, thresholdPercent) ? BatchRunner.EXIT_OK : BatchRunner.EXIT_ERRORS_FOUND;
+                }
+                return BatchRunner.EXIT_OK;
+            } catch (IOException e) {
+                System.err.println("Olcum hatasi: " + e.getMessage());
+                return BatchRunner.EXIT_FAILURE;
+            }
+        }
+        
+        void run() throws IOException {
+            java.util.Map<String, String> corpora = new java.util.LinkedHashMap<>();
+            String sample = sampleCorpus != null ? readSampleCorpus(sampleCorpus) : SAMPLE_TEXT;
+            for (int i = 0; i < SIZE_NAMES.length; i++) {
+                corpora.put("sentetik-" + SIZE_NAMES[i], syntheticCorpus(SIZE_WORDS[i]));
+                corpora.put("ornek-" + SIZE_NAMES[i], repeatToSize(sample, SIZE_WORDS[i]));
+            }
+            
+            System.out.println("Zemberek yukleniyor...");
+            long loadStart = System.nanoTime();
+            ZemberekComponents zemberek = ZemberekComponents.load();
+            System.out.println(String.format("Morfoloji yuklendi (%.1f ms)", (System.nanoTime() - loadStart) / 1_000_000.0));
+            TurkishTokenizer tokenizer = zemberek.tokenizer;
+            TurkishSpellChecker spellChecker = zemberek.spellChecker;
+            
+            java.util.Map<String, List<String>> words = new java.util.LinkedHashMap<>();
+            for (java.util.Map.Entry<String, String> corpus : corpora.entrySet()) {
+                words.put(corpus.getKey(), wordsOf(tokenizer, corpus.getValue()));
+            }
+            
+            // Soğuk morfoloji: yüklemeden hemen sonraki ilk geçiş, ısınma olmadan tek tur
+            List<String> coldWords = words.get("sentetik-kucuk");
+            measureOnce("check-soguk/sentetik-kucuk", "kelime", () -> checkAll(spellChecker, coldWords));
+            
+            SavedWordAutomaton automaton = SavedWordAutomaton.build(new ArrayList<>(saved.entrySet()));
+            for (java.util.Map.Entry<String, String> corpus : corpora.entrySet()) {
+                String name = corpus.getKey();
+                String text = corpus.getValue();
+                List<String> corpusWords = words.get(name);
+                measure("tokenize/" + name, "token", () -> tokenizer.tokenize(text).size());
+                measure("check/" + name, "kelime", () -> checkAll(spellChecker, corpusWords));
+                measure("kayitli-sorgu/" + name, "kelime", () -> {
+                    long found = 0;
+                    for (String word : corpusWords) {
+                        if (lookupCorrection(saved, null, word) != null) {
+                            found++;
+                        }
+                    }
+                    sink += found;
+                    return corpusWords.size();
+                });
+                measure("kayitli-gecis/" + name, "karakter", () -> {
+                    sink += automaton.apply(text, 1).count;
+                    return text.length();
+                });
+                measure("tam-gecis/" + name, "kelime", fullPass(zemberek, text, corpusWords.size()));
+            }
+            
+            // Öneri hesabı korpus boyutundan bağımsızdır; hatalı kelimelerden sabit bir örnek ölçülür
+            for (String name : new String[] {"sentetik-orta", "ornek-orta"}) {
+                List<String> misspelled = new ArrayList<>();
+                for (String word : new java.util.LinkedHashSet<>(words.get(name))) {
+                    if (misspelled.size() == SUGGEST_SAMPLE_WORDS) {
+                        break;
+                    }
+                    if (!spellChecker.check(word)) {
+                        misspelled.add(word);
+                    }
+                }
+                if (misspelled.isEmpty()) {
+                    continue;
+                }
+                measure("suggest/" + name, "kelime", () -> {
+                    for (String word : misspelled) {
+                        sink += spellChecker.suggestForWord(word).size();
+                    }
+                    return misspelled.size();
+                });
+            }
+        }
+        
+        // Toplu moddaki etkileşimsiz geçiş: tokenize, önbellekli check, elenen/kayıtlı kelime uygulaması ve çıktı
+        private Operation fullPass(ZemberekComponents zemberek, String text, long wordCount) {
+            BatchRunner runner = new BatchRunner(null, null, null, false);
+            runner.saved.putAll(saved);
+            runner.engine = new SpellCheckEngine(zemberek, runner.eliminated, runner.saved, () -> null, null);
+            Writer discard = new Writer() {
+                @Override
+                public void write(char[] buffer, int offset, int length) {
+                    sink += length;
+                }
+                
+                @Override
+                public void write(String text) {
+                    sink += text.length();
+                }
+                
+                @Override
+                public void flush() {
+                }
+                
+                @Override
+                public void close() {
+                }
+            };
+            BufferedWriter report = new BufferedWriter(discard);
+            return () -> {
+                runner.processChunk("olcum.txt", text, 1, 0, discard, report);
+                return wordCount;
+            };
+        }
+        
+        private long checkAll(TurkishSpellChecker spellChecker, List<String> corpusWords) {
+            long correct = 0;
+            for (String word : corpusWords) {
+                if (spellChecker.check(word)) {
+                    correct++;
+                }
+            }
+            sink += correct;
+            return corpusWords.size();
+        }
+        
+        private void measure(String name, String unit, Operation operation) throws IOException {
+            long end = System.nanoTime() + durationNanos;
+            do {
+                sink += operation.run();
+            } while (System.nanoTime() < end);
+            record(name, unit, operation, durationNanos);
+        }
+        
+        private void measureOnce(String name, String unit, Operation operation) throws IOException {
+            record(name, unit, operation, 0);
+        }
+        
+        // En az bir tur, süre dolana kadar tekrar eder; ayrılan bayt yalnızca bu iş parçacığı için sayılır
+        private void record(String name, String unit, Operation operation, long minNanos) throws IOException {
+            long gcCountBefore = gcCount();
+            long gcMillisBefore = gcMillis();
+            long allocatedBefore = allocatedBytes();
+            long units = 0;
+            long start = System.nanoTime();
+            long elapsed;
+            do {
+                units += operation.run();
+                elapsed = System.nanoTime() - start;
+            } while (elapsed < minNanos);
+            long allocated = allocatedBytes() - allocatedBefore;
+            Result result = new Result(name, unit, units * 1_000_000_000.0 / Math.max(elapsed, 1),
+                allocatedBefore < 0 ? -1 : (double) allocated / Math.max(units, 1),
+                gcCount() - gcCountBefore, gcMillis() - gcMillisBefore);
+            results.add(result);
+            System.out.println(String.format("%-32s %14.0f %s/s  %10s B/%s  gc %d (%d ms)",
+                result.name, result.opsPerSecond, result.unit,
+                result.bytesPerOp < 0 ? "-" : String.format("%.1f", result.bytesPerOp), result.unit,
+                result.gcCount, result.gcMillis));
+        }
+        
+        private long allocatedBytes() {
+            if (threads instanceof com.sun.management.ThreadMXBean) {
+                com.sun.management.ThreadMXBean allocation = (com.sun.management.ThreadMXBean) threads;
+                if (allocation.isThreadAllocatedMemorySupported() && allocation.isThreadAllocatedMemoryEnabled()) {
+                    return allocation.getThreadAllocatedBytes(Thread.currentThread().getId());
+                }
+            }
+            return -1;
+        }
+        
+        private static long gcCount() {
+            long count = 0;
+            for (java.lang.management.GarbageCollectorMXBean gc : java.lang.management.ManagementFactory.getGarbageCollectorMXBeans()) {
+                count += Math.max(0, gc.getCollectionCount());
+            }
+            return count;
+        }
+        
+        private static long gcMillis() {
+            long millis = 0;
+            for (java.lang.management.GarbageCollectorMXBean gc : java.lang.management.ManagementFactory.getGarbageCollectorMXBeans()) {
+                millis += Math.max(0, gc.getCollectionTime());
+            }
+            return millis;
+        }
+        
+        private static List<String> wordsOf(TurkishTokenizer tokenizer, String text) {
+            List<String> words = new ArrayList<>();
+            for (Token token : tokenizer.tokenize(text)) {
+                if (token.getType() == Token.Type.Word) {
+                    words.add(token.getText());
+                }
+            }
+            return words;
+        }
+        
+        // Örnek metnin kelimelerinden sabit tohumla cümleler kurar; kelimelerin bir kısmı bozulur ve
+        // bozulan kelimelerin yarısı kayıtlı kelime tablosuna eklenir (kayıtlı sorgular hem bulur hem bulamaz)
+        private String syntheticCorpus(int wordCount) {
+            String[] vocabulary = SAMPLE_TEXT.split("[^\\p{L}']+");
+            java.util.Random random = new java.util.Random(SEED + wordCount);
+            StringBuilder sb = new StringBuilder(wordCount * 8);
+            int sentenceLength = 0;
+            int sentences = 0;
+            for (int i = 0; i < wordCount; i++) {
+                String word = vocabulary[random.nextInt(vocabulary.length)];
+                if (word.isEmpty()) {
+                    word = "ve";
+                }
+                if (random.nextInt(100) < MISSPELLING_PERCENT) {
+                    String wrong = misspell(word, random);
+                    if (!wrong.equals(word) && random.nextBoolean()) {
+                        saved.putIfAbsent(wrong, word);
+                    }
+                    word = wrong;
+                }
+                if (sentenceLength == 0) {
+                    word = word.substring(0, 1).toUpperCase(new java.util.Locale("tr", "TR")) + word.substring(1);
+                }
+                sb.append(word);
+                sentenceLength++;
+                if (sentenceLength >= 6 && random.nextInt(8) == 0) {
+                    sb.append(random.nextInt(4) == 0 ? ", " : ". ");
+                    if (sb.charAt(sb.length() - 2) == '.') {
+                        sentenceLength = 0;
+                        if (++sentences % 5 == 0) {
+                            sb.setLength(sb.length() - 1);
+                            sb.append('\n');
+                        }
+                    }
+                } else {
+                    sb.append(' ');
+                }
+            }
+            return sb.append(".\n").toString();
+        }
+        
+        // Tipik yazım hataları: yer değiştirme, harf düşmesi ve Türkçe karakterin ASCII karşılığı
+        private static String misspell(String word, java.util.Random random) {
+            if (word.length() < 3) {
+                return word;
+            }
+            int position = 1 + random.nextInt(word.length() - 2);
+            char[] chars = word.toCharArray();
+            switch (random.nextInt(3)) {
+                case 0:
+                    char c = chars[position];
+                    chars[position] = chars[position + 1];
+                    chars[position + 1] = c;
+                    return new String(chars);
+                case 1:
+                    return word.substring(0, position) + word.substring(position + 1);
+                default:
+                    return word.replace('ı', 'i').replace('ş', 's').replace('ğ', 'g').replace('ü', 'u').replace('ö', 'o').replace('ç', 'c');
+            }
+        }
+        
+        private static String repeatToSize(String text, int wordCount) {
+            int wordsPerCopy = Math.max(1, text.split("\\s+").length);
+            int copies = Math.max(1, (wordCount + wordsPerCopy - 1) / wordsPerCopy);
+            StringBuilder sb = new StringBuilder(text.length() * copies);
+            for (int i = 0; i < copies; i++) {
+                sb.append(text);
+            }
+            return sb.toString();
+        }
+        
+        private static String readSampleCorpus(File source) throws IOException {
+            File[] files = source.isDirectory()
+                ? source.listFiles((dir, name) -> name.toLowerCase().endsWith(".txt"))
+                : new File[] {source};
+            if (files == null || files.length == 0) {
+                throw new IOException("Ornek korpus bulunamadi: " + source);
+            }
+            java.util.Arrays.sort(files);
+            StringBuilder sb = new StringBuilder();
+            for (File file : files) {
+                sb.append(new String(Files.readAllBytes(file.toPath()), "UTF-8")).append('\n');
+            }
+            return sb.toString();
+        }
+        
+        // Isınmış ölçümleri "ad=işlem/s" satırları olarak yazar
+        void save(File file) throws IOException {
+            Properties properties = new Properties();
+            for (Result result : results) {
+                properties.setProperty(result.name, String.format(java.util.Locale.ROOT, "%.1f", result.opsPerSecond));
+            }
+            try (Writer writer = new OutputStreamWriter(new FileOutputStream(file), "UTF-8")) {
+                properties.store(writer, "yazim denetimi olcum tabani");
+            }
+        }
+        
+        // Taban dosyasına göre yüzde değişimi yazar; eşikten fazla yavaşlayan ölçüm varsa false döner.
+        // Soğuk ölçüm tek turdan oluştuğu için gürültülüdür, gerileme sayılmaz.
+        boolean compare(File baselineFile, double thresholdPercent) throws IOException {
+            Properties baseline = new Properties();
+            try (Reader reader = new InputStreamReader(new FileInputStream(baselineFile), "UTF-8")) {
+                baseline.load(reader);
+            }
+            boolean ok = true;
+            System.out.println("Taban karsilastirmasi (" + baselineFile.getPath() + ", esik %" + thresholdPercent + "):");
+            for (Result result : results) {
+                String value = baseline.getProperty(result.name);
+                if (value == null) {
+                    continue;
+                }
+                double base = Double.parseDouble(value);
+                double changePercent = base > 0 ? (result.opsPerSecond - base) * 100 / base : 0;
+                boolean regression = !result.name.startsWith("check-soguk/") && changePercent < -thresholdPercent;
+                ok &= !regression;
+                System.out.println(String.format("%-32s %+7.1f%%%s", result.name, changePercent, regression ? "  GERILEME" : ""));
+            }
+            return ok;
+        }
+    }
+    
+    private static int runDictionaryTool(String[] args) {
+        try {
+            if (args[0].equals("--sozluk-derle") && (args.length == 2 || args.length == 3)) {
+                File target = new File(args.length == 3 ? args[2] : SHARED_DICTIONARY_FILE);
+                long start = System.nanoTime();
+                int count = compileSharedDictionary(new File(args[1]), target);
+                System.out.println(String.format("%d girdi %s dosyasina derlendi (%.1f ms)", count, target.getPath(), (System.nanoTime() - start) / 1_000_000.0));
+                return BatchRunner.EXIT_OK;
+            }
+            if (args[0].equals("--sozluk-ac") && args.length == 3) {
+                int count = exportSharedDictionary(new File(args[1]), new File(args[2]));
+                System.out.println(count + " girdi " + args[2] + " dosyasina aktarildi");
+                return BatchRunner.EXIT_OK;
+            }
+            if (args[0].equals("--sozluk-karsilastir") && args.length == 2) {
+                compareDictionaryLoad(new File(args[1]));
+                return BatchRunner.EXIT_OK;
+            }
+        } catch (IOException e) {
+            System.err.println("Sozluk islenirken hata: " + e.getMessage());
+            return BatchRunner.EXIT_FAILURE;
+        }
+        System.err.println("Kullanim: --sozluk-derle <metin> [ikili] | --sozluk-ac <ikili> <metin> | --sozluk-karsilastir <metin>");
+        return BatchRunner.EXIT_FAILURE;
+    }
+    
+    private static long drainChunkSource(TextChunkSource source) throws IOException {
+        long chars = 0;
+        try (TextChunkSource s = source) {
+            String chunk;
+            while ((chunk = s.nextChunk()) != null) {
+                chars += chunk.length();
+            }
+        }
+        return chars;
+    }
+    
+    // Akış modu: dosya parça parça okunur, her parça ayrı tokenize edilip denetlenir ve
+    // düzeltilmiş çıktı ".part" dosyasına hemen yazılır. Bellek kullanımı dosya boyutuna değil parça boyutuna bağlıdır.
+    // Tamamlanırsa true, duraklatılır veya durdurulursa false döner.
+    private boolean processLargeFile(File sourceFile, File targetFile, CorrectionLog.Batch corrections, int startChunk, int startFromIncorrectWordIndex) throws IOException {
+        File partFile = new File(targetFile.getPath() + ".part");
+        boolean resume = startChunk > 0 && partFile.exists();
+        if (!resume) {
+            startChunk = 0;
+            startFromIncorrectWordIndex = 0;
+        }
+        boolean completed = false;
+        long readNanos = 0;
+        String readerName;
+        try (TextChunkSource source = openChunkSource(sourceFile, STREAMING_CHUNK_CHARS);
+             java.nio.channels.FileChannel channel = java.nio.channels.FileChannel.open(partFile.toPath(),
+                 java.nio.file.StandardOpenOption.CREATE, java.nio.file.StandardOpenOption.WRITE,
+                 resume ? java.nio.file.StandardOpenOption.APPEND : java.nio.file.StandardOpenOption.TRUNCATE_EXISTING);
+             Writer writer = new BufferedWriter(java.nio.channels.Channels.newWriter(channel, java.nio.charset.StandardCharsets.UTF_8), OutputStage.WRITE_BUFFER_CHARS)) {
+            // Eşleme başarısız olduysa ayar açık olsa da tamponlu okuyucu kullanılır; etiket gerçek okuyucudan alınır
+            readerName = source instanceof MappedChunkSource ? "bellek esleme" : "tamponlu okuma";
+            int chunkIndex = 0;
+            int lineNumber = 1;
+            long chunkOffset = 0;
+            String chunk;
+            while (true) {
+                long readStart = System.nanoTime();
+                chunk = source.nextChunk();
+                readNanos += System.nanoTime() - readStart;
+                if (chunk == null) {
+                    break;
+                }
+                if (chunkIndex >= startChunk) {
+                    PrescanResult scan = prescanText(chunk, lineNumber, chunkOffset);
+                    int startIndex = chunkIndex == startChunk ? startFromIncorrectWordIndex : 0;
+                    String[] corrected = processText(scan, sourceFile.getName(), corrections, startIndex);
+                    if (corrected == null) {
+                        if (isPaused.get()) {
+                            pausedChunkIndex = chunkIndex;
+                        }
+                        return false;
+                    }
+                    for (String token : corrected) {
+                        writer.write(token);
+                    }
+                    final int progressChunk = chunkIndex + 1;
+                    SwingUtilities.invokeLater(() -> statusLabel.setText("Isleniyor: " + sourceFile.getName() + " (parca " + progressChunk + ")"));
+                }
+                for (int i = chunk.indexOf('\n'); i >= 0; i = chunk.indexOf('\n', i + 1)) {
+                    lineNumber++;
+                }
+                chunkOffset += chunk.length();
+                chunkIndex++;
+            }
+            // Hedefin yerine geçmeden önce içerik diske indirilir (OutputStage.writeTokens ile aynı)
+            writer.flush();
+            channel.force(false);
+            completed = true;
+        } finally {
+            if (!completed && !isPaused.get()) {
+                partFile.delete(); // Durdurma veya hata: yarım çıktıyı bırakma
+            }
+        }
+        OutputStage.moveAtomically(partFile, targetFile);
+        System.out.println(sourceFile.getName() + " okuma hizi: " + formatThroughput(sourceFile.length(), readNanos)
+            + " (" + readerName + ")");
+        return true;
+    }
+    
+    // Ön tarama sonucunu bekler; dosya pencerede yoksa (ör. devam etme sonrası) aynı thread'de tarar
+    private PrescanResult takePrescanResult(File listFile, File currentFile) throws IOException {
+        CompletableFuture<PrescanResult> future = prescanResults.get(listFile);
+        if (future == null || future.isCancelled()) {
+            return prescanFile(currentFile);
+        }
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof IOException) {
+                throw (IOException) e.getCause();
+            }
+            throw e;
+        }
+    }
+    
+    private void releasePrescanResult(File listFile) {
+        prescanResults.remove(listFile);
+        fillPrescanWindow();
+    }
+    
+    // Yazım denetimi çalıştırmaları için zamanlayıcı: tek iş parçacıklı executor üzerinde aynı anda tek etkin çalıştırma,
+    // koşul değişkeniyle duraklatma/sürdürme (sürdürünce bekleyen iş parçacığı anında uyanır) ve iş birliğine dayalı iptal.
+    // İptal edilen çalıştırma kendi kontrol noktalarında çıkar; yeni çalıştırma executor sırasında onu bekler, üst üste binmez.
+    private static class SpellCheckScheduler {
+        private static final class Run {
+            final java.util.concurrent.locks.ReentrantLock lock = new java.util.concurrent.locks.ReentrantLock();
+            final java.util.concurrent.locks.Condition resumed = lock.newCondition();
+            boolean paused; // lock ile korunur
+            volatile boolean cancelled;
+            volatile boolean finished;
+        }
+        
+        private final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "yazim-denetimi");
+            thread.setDaemon(true);
+            return thread;
+        });
+        private Run latest; // this ile korunur
+        private volatile Run running;
+        
+        // Etkin (bitmemiş ve iptal edilmemiş) bir çalıştırma varsa yenisini kabul etmez
+        synchronized boolean submit(Runnable task) {
+            if (isActive()) {
+                return false;
+            }
+            Run run = new Run();
+            latest = run;
+            try {
+                executor.execute(() -> {
+                    running = run;
+                    try {
+                        if (!run.cancelled) {
+                            task.run();
+                        }
+                    } finally {
+                        run.finished = true;
+                        running = null;
+                    }
+                });
+            } catch (java.util.concurrent.RejectedExecutionException e) {
+                run.finished = true;
+                return false;
+            }
+            return true;
+        }
+        
+        synchronized boolean isActive() {
+            return latest != null && !latest.finished && !latest.cancelled;
+        }
+        
+        // Çalışan iş parçacığı kendi çalıştırmasını duraklatır; bir sonraki awaitIfPaused çağrısında bekler
+        void pause() {
+            Run run = running;
+            if (run != null) {
+                run.lock.lock();
+                try {
+                    run.paused = true;
+                } finally {
+                    run.lock.unlock();
+                }
+            }
+        }
+        
+        // Duraklatılmış çalıştırmayı uyandırır; duraklatılmış bir çalıştırma yoksa false döner
+        boolean resume() {
+            Run run = running;
+            if (run == null || run.cancelled) {
+                return false;
+            }
+            run.lock.lock();
+            try {
+                if (!run.paused) {
+                    return false;
+                }
+                run.paused = false;
+                run.resumed.signalAll();
+                return true;
+            } finally {
+                run.lock.unlock();
             }
         }
         
-        currentFileIndex = startIndex;
+        // Çalıştırma duraklatıldıysa sürdürülene ya da iptal edilene kadar bekler; iptal edildiyse false döner
+        boolean awaitIfPaused() {
+            Run run = running;
+            if (run == null) {
+                return true;
+            }
+            run.lock.lock();
+            try {
+                while (run.paused && !run.cancelled) {
+                    run.resumed.await();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                run.cancelled = true;
+            } finally {
+                run.lock.unlock();
+            }
+            return !run.cancelled;
+        }
         
-        isRunning.set(true);
-        isPaused.set(false);
-        correctionsLog.setLength(0);
-        startButton.setEnabled(false);
-        continueButton.setEnabled(false);
-        progressBar.setValue(0);
+        // Çalışan iş parçacığı kontrol noktalarında sorar
+        boolean isCancelled() {
+            Run run = running;
+            return run != null && run.cancelled;
+        }
         
-        // Ayrı thread'de çalıştır
-        new Thread(() -> {
-            processAllFiles();
-        }).start();
+        void cancel() {
+            Run run;
+            synchronized (this) {
+                run = latest;
+            }
+            if (run == null) {
+                return;
+            }
+            run.cancelled = true;
+            run.lock.lock();
+            try {
+                run.resumed.signalAll();
+            } finally {
+                run.lock.unlock();
+            }
+        }
+        
+        // Pencere kapanırken: etkin çalıştırmayı iptal eder, kısa süre bekler, gerekirse kesme gönderir
+        void shutdown() {
+            cancel();
+            executor.shutdown();
+            try {
+                if (!executor.awaitTermination(2, java.util.concurrent.TimeUnit.SECONDS)) {
+                    executor.shutdownNow();
+                }
+            } catch (InterruptedException e) {
+                executor.shutdownNow();
+                Thread.currentThread().interrupt();
+            }
+        }
     }
     
     private void processAllFiles() {
         final int totalFileCount = selectedFiles.size();
-        for (int i = currentFileIndex; i < totalFileCount && isRunning.get(); i++) {
+        // Önceki çalıştırmanın çıktıları (ör. aynı dosyanın Tarandi'ye taşınması) bitmeden dosyalara dokunma
+        outputStage.awaitIdle();
+        for (int i = currentFileIndex; i < totalFileCount && isRunning.get() && !spellCheckScheduler.isCancelled(); i++) {
             final int fileIndex = i; // Final variable for lambda
             currentFileIndex = i;
             File listFile = selectedFiles.get(i);
             File currentFile = listFile; // Default for normal mode
+            
+            if (upToDateFiles.contains(listFile)) {
+                // İçerik ve ilgili sözlük kayıtları son taramadan beri değişmedi: Sonuc'taki çıktı geçerli
+                final int progress = (int) Math.round(((double) (i + 1) / totalFileCount) * 100);
+                SwingUtilities.invokeLater(() -> progressBar.setValue(progress));
+                continue;
+            }
 
             if (currentWorkspaceDir != null) {
                 File taranacakFile = new File(new File(currentWorkspaceDir, "Taranacak"), listFile.getName());
@@ -700,8 +4811,21 @@ public class TurkishSpellCheckerSimple extends JFrame {
                 
                 // If the file is in Tarandi, move it back to be re-scanned
                 if (tarandiFile.exists()) {
+                    // Ön tarama dosyayı hâlâ okuyor olabilir, taşımadan önce bitmesini bekle
+                    CompletableFuture<PrescanResult> pending = prescanResults.get(listFile);
+                    if (pending != null) {
+                        try {
+                            pending.join();
+                        } catch (RuntimeException ignored) {
+                            // Hata varsa takePrescanResult tekrar deneyecek
+                        }
+                    }
                     try {
                         Files.move(tarandiFile.toPath(), taranacakFile.toPath(), java.nio.file.StandardCopyOption.REPLACE_EXISTING);
+                        WorkspaceScanState state = workspaceScanState;
+                        if (state != null) {
+                            state.remove(listFile.getName());
+                        }
                     } catch (IOException e) {
                         final String errorMessage = "Dosya '" + tarandiFile.getName() + "' geri tasinirken hata: " + e.getMessage();
                         SwingUtilities.invokeLater(() -> {
@@ -712,280 +4836,1042 @@ public class TurkishSpellCheckerSimple extends JFrame {
                 }
                 currentFile = taranacakFile; // The file to process is always in Taranacak
             }
-            
-            if (!currentFile.exists()) {
-                // This can happen if file was deleted externally.
-                continue; 
+            
+            if (!currentFile.exists()) {
+                // This can happen if file was deleted externally.
+                continue; 
+            }
+            
+            final File finalCurrentFile = currentFile;
+            SwingUtilities.invokeLater(() -> {
+                loadFile(fileIndex);
+                statusLabel.setText("Isleniyor: " + finalCurrentFile.getName() + " (" + (fileIndex + 1) + "/" + selectedFiles.size() + ")");
+            });
+            
+            try {
+                // Düzeltmeler karar anında biriktirilir, dosyanın çıktısı yazılınca çalışma alanının günlüğüne eklenir
+                CorrectionLog correctionLog = correctionLogFor();
+                CorrectionLog.Batch corrections = new CorrectionLog.Batch();
+                currentFileScannedWords = new HashSet<>();
+                
+                // Duraklatmadan devam ediliyorsa, kalınan kelimeden başla
+                boolean resuming = i == pausedFileIndex && isPaused.get() == false;
+                int startFromIndex = resuming ? pausedIncorrectWordIndex : 0;
+                
+                // Düzeltilmiş içeriği orijinal dosya ismi ile kaydet
+                String correctedFileName = correctedFileFor(currentFile.getName());
+                
+                boolean streaming = isStreamingFile(currentFile);
+                String[] correctedTokens = null;
+                boolean completed;
+                if (streaming) {
+                    // Büyük dosya: parça parça işle, çıktı doğrudan dosyaya yazılır
+                    completed = processLargeFile(currentFile, new File(correctedFileName), corrections,
+                        resuming ? pausedChunkIndex : 0, startFromIndex);
+                } else {
+                    PrescanResult scan = takePrescanResult(listFile, currentFile);
+                    correctedTokens = processText(scan, currentFile.getName(), corrections, startFromIndex);
+                    completed = correctedTokens != null;
+                }
+                
+                // Eğer işlem durdurulduysa veya çalıştırma iptal edildiyse (geri al değil)
+                if (!isRunning.get() || spellCheckScheduler.isCancelled() || (isPaused.get() && !completed)) {
+                    break;
+                }
+                
+                // Eğer işlem duraklatıldıysa
+                if (isPaused.get()) {
+                    break;
+                }
+                
+                // Çıktı aşaması: yazma ve Tarandi'ye taşıma çıktı iş parçacığında yapılır,
+                // denetim iş parçacığı hemen sonraki dosyanın incelemesine geçer
+                final String fileName = currentFile.getName();
+                final String[] finalTokens = correctedTokens;
+                final Set<String> scannedWords = currentFileScannedWords;
+                outputStage.submit(() -> {
+                    if (!streaming) {
+                        try {
+                            OutputStage.writeTokens(new File(correctedFileName), finalTokens);
+                        } catch (IOException e) {
+                            SwingUtilities.invokeLater(() -> {
+                                JOptionPane.showMessageDialog(this, 
+                                    "Dosya '" + fileName + "' kaydedilirken hata: " + e.getMessage(),
+                                    "Hata", JOptionPane.ERROR_MESSAGE);
+                            });
+                            return; // Kaynak dosya Taranacak'ta kalır, sonraki taramada tekrar işlenir
+                        }
+                    }
+                    correctionLog.commit(corrections);
+                    
+                    // Eğer aktif bir çalışma alanı varsa, dosyayı Tarandi klasörüne taşı
+                    if (currentWorkspaceDir != null) {
+                        try {
+                            moveToScanned(fileName);
+                            recordScannedFile(fileName, scannedWords);
+                        } catch (IOException e) {
+                            SwingUtilities.invokeLater(() -> {
+                                JOptionPane.showMessageDialog(this, 
+                                    "Dosya calisma alanina tasinirken hata: " + e.getMessage(),
+                                    "Hata", JOptionPane.ERROR_MESSAGE);
+                            });
+                        }
+                    }
+                    
+                    // Son düzeltilmiş içeriği göster (büyük dosyalar sanal görüntüleyicide)
+                    final String finalContent = streaming ? null : String.join("", finalTokens);
+                    SwingUtilities.invokeLater(() -> {
+                        if (streaming) {
+                            try {
+                                outputViewer.showFile(new File(correctedFileName));
+                            } catch (IOException e) {
+                                outputViewer.showText();
+                                statusLabel.setText("Duzeltilmis dosya gosterilemedi: " + e.getMessage());
+                            }
+                            outputArea.setText("");
+                        } else {
+                            outputViewer.showText();
+                            outputArea.setText(finalContent);
+                            outputArea.setCaretPosition(0); // Başa git
+                        }
+                    });
+                });
+                
+                // İlerleme çubuğunu güncelle
+                final int progress = (int) Math.round(((double) (i + 1) / totalFileCount) * 100);
+                SwingUtilities.invokeLater(() -> progressBar.setValue(progress));
+                
+                // Dosya tamamlandı, bir sonraki dosyaya geç
+                releasePrescanResult(listFile);
+                currentIncorrectWordIndex = 0;
+                pausedIncorrectWordIndex = 0;
+                pausedChunkIndex = 0;
+                
+            } catch (IOException e) {
+                SwingUtilities.invokeLater(() -> {
+                    JOptionPane.showMessageDialog(this, 
+                        "Dosya islenirken hata: " + e.getMessage(),
+                        "Hata", JOptionPane.ERROR_MESSAGE);
+                });
+            }
+        }
+        
+        // Bekleyen çıktılar yazılmadan tarama durumu kaydedilmez ve "Tamamlandi" gösterilmez
+        outputStage.awaitIdle();
+        saveWorkspaceScanState();
+        
+        // Tüm dosyalar tamamlandı (duraklatılmadıysa ve iptal edilmediyse)
+        if (isRunning.get() && !isPaused.get() && !spellCheckScheduler.isCancelled()) {
+            final String cacheStats = engine.checkCacheStats();
+            System.out.println(cacheStats);
+            System.out.println(engine.suggestionCacheStats());
+            SwingUtilities.invokeLater(() -> {
+                startButton.setEnabled(true);
+                continueButton.setEnabled(false);
+                statusLabel.setText("Tamamlandi - " + cacheStats);
+                progressBar.setValue(100);
+            });
+        }
+    }
+    
+    // Çalışma alanında son taramadan beri değişmemiş (atlanacak) dosyalar
+    private final Set<File> upToDateFiles = ConcurrentHashMap.newKeySet();
+    private volatile WorkspaceScanState workspaceScanState;
+    
+    // Çalışma alanındaki her taranmış dosyanın içerik özeti ve dosyada hatalı bulunan kelimelerin o anki sözlük
+    // karşılıkları. Dosya değişmediyse ve kelimelerinin karşılıkları (elenmiş / kayıtlı düzeltme / sorulacak) aynı
+    // kaldıysa dosya tekrar taranmaz; sözlük değişikliği yalnızca o kelimeleri içeren dosyaları yeniden taratır.
+    private static class WorkspaceScanState {
+        static final String FILE_NAME = "tarama_durumu.txt";
+        private static final String HEADER_PREFIX = "#tarama-durumu v1 ";
+        
+        private static final class Entry {
+            final long size;
+            final long modified;
+            final String hash;
+            final java.util.Map<String, String> words; // kelime -> karşılık
+            
+            Entry(long size, long modified, String hash, java.util.Map<String, String> words) {
+                this.size = size;
+                this.modified = modified;
+                this.hash = hash;
+                this.words = words;
+            }
+        }
+        
+        private final File file;
+        private final File scannedDir;
+        private final File pendingDir;
+        private final String header;
+        private final ConcurrentHashMap<String, Entry> entries = new ConcurrentHashMap<>();
+        
+        private WorkspaceScanState(File workspaceDir, String fingerprint) {
+            this.file = new File(workspaceDir, FILE_NAME);
+            this.scannedDir = new File(workspaceDir, "Tarandi");
+            this.pendingDir = new File(workspaceDir, "Taranacak");
+            this.header = HEADER_PREFIX + fingerprint;
+        }
+        
+        // Parmak izi uyuşmazsa (Zemberek/sözlük değişmiş) kayıtlar atılır, tüm dosyalar taranır
+        static WorkspaceScanState load(File workspaceDir, String fingerprint) {
+            WorkspaceScanState state = new WorkspaceScanState(workspaceDir, fingerprint);
+            if (!state.file.exists()) {
+                return state;
+            }
+            try (BufferedReader reader = new BufferedReader(new InputStreamReader(new FileInputStream(state.file), "UTF-8"))) {
+                if (!state.header.equals(reader.readLine())) {
+                    return state;
+                }
+                java.util.Map<String, String> words = null;
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    String[] parts = line.split("\t", line.startsWith("D\t") ? 5 : 3);
+                    if (parts[0].equals("D") && parts.length == 5) {
+                        words = new java.util.HashMap<>();
+                        state.entries.put(parts[1], new Entry(Long.parseLong(parts[2]), Long.parseLong(parts[3]), parts[4], words));
+                    } else if (parts[0].equals("K") && parts.length == 3 && words != null) {
+                        words.put(parts[1], parts[2]);
+                    }
+                }
+            } catch (IOException | NumberFormatException e) {
+                System.err.println("Tarama durumu okunamadi, tum dosyalar taranacak: " + e.getMessage());
+                state.entries.clear();
+            }
+            return state;
+        }
+        
+        // Boyut ve değişiklik zamanı aynıysa içerik özeti hesaplanmaz. Taranacak klasörüne aynı adla yeni bir kopya
+        // konmuşsa yalnızca Tarandi kopyasının özeti ona kefil olamaz, dosya taranır.
+        boolean isUpToDate(String fileName, java.util.function.Function<String, String> resolution) throws IOException {
+            Entry entry = entries.get(fileName);
+            File scannedFile = new File(scannedDir, fileName);
+            if (entry == null || !scannedFile.exists() || new File(pendingDir, fileName).exists()) {
+                return false;
+            }
+            long size = scannedFile.length();
+            long modified = scannedFile.lastModified();
+            if (size != entry.size) {
+                return false;
+            }
+            if (modified != entry.modified) {
+                if (!entry.hash.equals(contentHash(scannedFile))) {
+                    return false;
+                }
+                // İçerik aynı, yalnızca zaman damgası değişmiş: sonraki açılışta özet tekrar hesaplanmasın
+                entry = new Entry(size, modified, entry.hash, entry.words);
+                entries.put(fileName, entry);
+            }
+            for (java.util.Map.Entry<String, String> word : entry.words.entrySet()) {
+                if (!word.getValue().equals(resolution.apply(word.getKey()))) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        
+        void record(String fileName, Set<String> words, java.util.function.Function<String, String> resolution) throws IOException {
+            File scannedFile = new File(scannedDir, fileName);
+            java.util.Map<String, String> resolved = new java.util.HashMap<>();
+            for (String word : words) {
+                resolved.put(word, resolution.apply(word));
+            }
+            entries.put(fileName, new Entry(scannedFile.length(), scannedFile.lastModified(), contentHash(scannedFile), resolved));
+        }
+        
+        void remove(String fileName) {
+            entries.remove(fileName);
+        }
+        
+        // Tarandi klasöründe artık olmayan dosyaların kayıtları atlanır; geçici dosya + atomik taşıma
+        synchronized void save() throws IOException {
+            File temp = new File(file.getPath() + ".tmp");
+            try (BufferedWriter writer = new BufferedWriter(new OutputStreamWriter(new FileOutputStream(temp), "UTF-8"))) {
+                writer.write(header);
+                writer.newLine();
+                for (java.util.Map.Entry<String, Entry> record : entries.entrySet()) {
+                    if (!new File(scannedDir, record.getKey()).exists()) {
+                        continue;
+                    }
+                    Entry entry = record.getValue();
+                    writer.write("D\t" + record.getKey() + "\t" + entry.size + "\t" + entry.modified + "\t" + entry.hash);
+                    writer.newLine();
+                    for (java.util.Map.Entry<String, String> word : entry.words.entrySet()) {
+                        writer.write("K\t" + word.getKey() + "\t" + word.getValue());
+                        writer.newLine();
+                    }
+                }
+            }
+            Files.move(temp.toPath(), file.toPath(), java.nio.file.StandardCopyOption.REPLACE_EXISTING, java.nio.file.StandardCopyOption.ATOMIC_MOVE);
+        }
+        
+        static String contentHash(File file) throws IOException {
+            java.security.MessageDigest digest;
+            try {
+                digest = java.security.MessageDigest.getInstance("SHA-256");
+            } catch (java.security.NoSuchAlgorithmException e) {
+                throw new IOException(e);
+            }
+            byte[] buffer = new byte[64 * 1024];
+            try (InputStream in = new FileInputStream(file)) {
+                for (int read = in.read(buffer); read >= 0; read = in.read(buffer)) {
+                    digest.update(buffer, 0, read);
+                }
+            }
+            StringBuilder hex = new StringBuilder(64);
+            for (byte b : digest.digest()) {
+                hex.append(String.format("%02x", b));
+            }
+            return hex.toString();
+        }
+    }
+    
+    // Bir kelimenin tarama anındaki sözlük karşılığı: "-" elenmiş, "=düzeltme" kayıtlı/ortak sözlükte, "?" kullanıcıya sorulur
+    private String scanResolution(String word) {
+        if (eliminatedWords.contains(word)) {
+            return "-";
+        }
+        String correction = lookupCorrection(savedWords, sharedDictionary, word);
+        return correction == null ? "?" : "=" + correction;
+    }
+    
+    // Tarama durumu parmak izi: Zemberek sözlüğü ve doğru yazılmış kelimeler için tanımlı kayıtlı düzeltmeler.
+    // Kayıtlı kelime ön geçişi bunları da değiştirdiği, ama dosya kayıtlarında yer almadıkları için değişirlerse her şey taranır.
+    private String workspaceScanFingerprint() {
+        List<String> validKeyEntries = new ArrayList<>();
+        for (java.util.Map.Entry<String, String> entry : savedWords.snapshot()) {
+            if (engine.isCorrect(entry.getKey())) {
+                validKeyEntries.add(entry.getKey() + "=" + entry.getValue());
+            }
+        }
+        Collections.sort(validKeyEntries);
+        return VerdictStore.lexiconFingerprint(engine.morphology()) + " gecerli-kayitli=" + Integer.toHexString(String.join("\n", validKeyEntries).hashCode());
+    }
+    
+    // Çalışma alanı açıksa tarama durumunu yükler ve değişmemiş dosyaları belirler (denetim iş parçacığında çalışır)
+    private void findUpToDateFiles() {
+        upToDateFiles.clear();
+        if (currentWorkspaceDir == null) {
+            workspaceScanState = null;
+            return;
+        }
+        WorkspaceScanState state = WorkspaceScanState.load(currentWorkspaceDir, workspaceScanFingerprint());
+        workspaceScanState = state;
+        SwingUtilities.invokeLater(() -> statusLabel.setText("Degismemis dosyalar belirleniyor..."));
+        for (File listFile : selectedFiles) {
+            if (spellCheckScheduler.isCancelled()) {
+                return;
+            }
+            try {
+                if (state.isUpToDate(listFile.getName(), this::scanResolution)
+                        && new File(correctedFileFor(listFile.getName())).exists()) {
+                    upToDateFiles.add(listFile);
+                }
+            } catch (IOException e) {
+                // Okunamayan dosya normal şekilde taranır
+            }
+        }
+        if (!upToDateFiles.isEmpty()) {
+            System.out.println("Degismemis dosyalar atlanacak: " + upToDateFiles.size() + "/" + selectedFiles.size());
+        }
+    }
+    
+    private void recordScannedFile(String fileName, Set<String> scannedWords) throws IOException {
+        WorkspaceScanState state = workspaceScanState;
+        if (state != null && scannedWords != null) {
+            state.record(fileName, scannedWords, this::scanResolution);
+        }
+    }
+    
+    private void saveWorkspaceScanState() {
+        WorkspaceScanState state = workspaceScanState;
+        if (state != null) {
+            try {
+                state.save();
+            } catch (IOException e) {
+                System.err.println("Tarama durumu kaydedilemedi: " + e.getMessage());
+            }
+        }
+    }
+    
+    private final OutputStage outputStage = new OutputStage();
+    
+    // Düzeltilmiş çıktı aşaması. Token dizisi birleştirilmeden (ara String/bayt kopyası olmadan) geçici dosyaya
+    // akıtılır, diske zorlanır ve hedefin yerine atomik olarak taşınır; süreç yazma sırasında ölürse hedef ya eski
+    // ya yeni haliyle kalır. İşler tek "cikti-yazici" iş parçacığında sırayla çalışır.
+    private static class OutputStage {
+        interface Task {
+            void run() throws IOException;
+        }
+        
+        private static final int WRITE_BUFFER_CHARS = 256 * 1024;
+        
+        private final ExecutorService io = Executors.newSingleThreadExecutor(r -> {
+            Thread thread = new Thread(r, "cikti-yazici");
+            thread.setDaemon(true);
+            return thread;
+        });
+        private CompletableFuture<Void> last = CompletableFuture.completedFuture(null); // this ile korunur
+        
+        synchronized CompletableFuture<Void> submit(Task task) {
+            CompletableFuture<Void> future = new CompletableFuture<>();
+            try {
+                io.execute(() -> {
+                    try {
+                        task.run();
+                        future.complete(null);
+                    } catch (IOException | RuntimeException e) {
+                        System.err.println("Cikti yazilirken hata: " + e.getMessage());
+                        future.completeExceptionally(e);
+                    }
+                });
+            } catch (java.util.concurrent.RejectedExecutionException e) {
+                future.completeExceptionally(e);
+            }
+            last = future;
+            return future;
+        }
+        
+        // Sıraya alınmış tüm çıktılar bitene kadar bekler (işler sırayla çalıştığı için sonuncuyu beklemek yeter)
+        void awaitIdle() {
+            CompletableFuture<Void> pending;
+            synchronized (this) {
+                pending = last;
+            }
+            try {
+                pending.join();
+            } catch (CompletionException | java.util.concurrent.CancellationException e) {
+                // Hata işin kendisinde raporlandı
+            }
+        }
+        
+        // Pencere kapanırken bekleyen çıktıların yazılmasına izin verir
+        void shutdown() {
+            io.shutdown();
+            try {
+                io.awaitTermination(30, java.util.concurrent.TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        
+        static void writeTokens(File target, String[] tokens) throws IOException {
+            File temp = new File(target.getPath() + ".tmp");
+            try (java.nio.channels.FileChannel channel = java.nio.channels.FileChannel.open(temp.toPath(),
+                    java.nio.file.StandardOpenOption.CREATE, java.nio.file.StandardOpenOption.TRUNCATE_EXISTING, java.nio.file.StandardOpenOption.WRITE)) {
+                Writer writer = new BufferedWriter(java.nio.channels.Channels.newWriter(channel, java.nio.charset.StandardCharsets.UTF_8), WRITE_BUFFER_CHARS);
+                for (String token : tokens) {
+                    writer.write(token);
+                }
+                writer.flush();
+                channel.force(false);
+            } catch (IOException e) {
+                temp.delete();
+                throw e;
+            }
+            moveAtomically(temp, target);
+        }
+        
+        // Dosya sistemi atomik taşımayı desteklemiyorsa normal taşımaya döner
+        static void moveAtomically(File source, File target) throws IOException {
+            try {
+                Files.move(source.toPath(), target.toPath(), java.nio.file.StandardCopyOption.REPLACE_EXISTING, java.nio.file.StandardCopyOption.ATOMIC_MOVE);
+            } catch (java.nio.file.AtomicMoveNotSupportedException e) {
+                Files.move(source.toPath(), target.toPath(), java.nio.file.StandardCopyOption.REPLACE_EXISTING);
+            }
+        }
+    }
+    
+    private final ConcurrentHashMap<File, CorrectionLog> correctionLogs = new ConcurrentHashMap<>();
+    
+    // Çalışma alanı aktifse onun Duzeltmeler klasöründeki, değilse global Duzeltmeler klasöründeki günlük
+    private CorrectionLog correctionLogFor() {
+        File dir = currentWorkspaceDir != null ? new File(currentWorkspaceDir, "Duzeltmeler") : new File("Duzeltmeler");
+        return correctionLogs.computeIfAbsent(dir.getAbsoluteFile(), CorrectionLog::new);
+    }
+    
+    private void closeCorrectionLog(File workspaceDir) {
+        CorrectionLog log = correctionLogs.remove(new File(workspaceDir, "Duzeltmeler").getAbsoluteFile());
+        if (log != null) {
+            log.close();
+        }
+    }
+    
+    private static void logPrepassReplacements(PrescanResult scan, String fileName, CorrectionLog.Batch corrections) {
+        SavedWordAutomaton.Replacements prepass = scan.savedReplacements;
+        for (int r = 0; r < prepass.count; r++) {
+            corrections.record(fileName, prepass.lineNumbers[r], scan.firstOffset + prepass.offsets[r],
+                prepass.wrongWords[r], prepass.correctWords[r], CorrectionLog.SAVED_PREPASS);
+        }
+    }
+    
+    // Yapılandırılmış düzeltme günlüğü (JSON Lines), Duzeltmeler klasörü başına bir tane. Her satır bir kayıt:
+    // {"zaman","dosya","satir","ofset","yanlis","duzeltme","islem"}; ofset dosyadaki karakter ofsetidir.
+    // Bir dosyanın kayıtları karar anında Batch'te biriktirilir ve dosyanın çıktısı yazılınca commit ile kuyruğa alınır;
+    // tek iş parçacığı kuyruğu toplu yazar ve her toplu yazımdan sonra bir kez boşaltır. Dosya ROTATE_BYTES'ı aşınca zaman damgalı adla kenara alınır ve yeni dosyaya devam edilir.
+    private static class CorrectionLog {
+        static final String FILE_NAME = "duzeltmeler.jsonl";
+        static final String SAVED_PREPASS = "kayitli-on-gecis";
+        static final String SAVED = "kayitli";
+        static final String SUGGESTION = "oneri";
+        static final String CUSTOM = "ozel";
+        static final String APPLY_TO_FILE = "dosyaya-uygula";
+        static final String APPLY_TO_ALL_FILES = "tum-dosyalara-uygula";
+        static final String AUTOMATIC = "otomatik";
+        static final String UNIQUE_REVIEW = "benzersiz-inceleme";
+        static final String ELIMINATE = "ele";
+        static final String UNDO = "geri-al";
+        private static final long ROTATE_BYTES = 64L * 1024 * 1024;
+        
+        private static final class Entry {
+            final long time;
+            final String fileName;
+            final int lineNumber;
+            final long offset;
+            final String wrong;
+            final String correction;
+            final String action;
+            
+            Entry(long time, String fileName, int lineNumber, long offset, String wrong, String correction, String action) {
+                this.time = time;
+                this.fileName = fileName;
+                this.lineNumber = lineNumber;
+                this.offset = offset;
+                this.wrong = wrong;
+                this.correction = correction;
+                this.action = action;
+            }
+        }
+        
+        // Tek dosyanın henüz yazılmamış çıktısına ait kayıtlar. Durdurulan veya baştan alınan dosyanın Batch'i
+        // commit edilmeden bırakılır, böylece çıktıya girmeyen düzeltmeler günlükte kalmaz. Tek iş parçacığı doldurur.
+        static final class Batch {
+            private final List<Entry> entries = new ArrayList<>();
+            
+            void record(String fileName, int lineNumber, long offset, String wrong, String correction, String action) {
+                entries.add(new Entry(System.currentTimeMillis(), fileName, lineNumber, offset, wrong, correction, action));
+            }
+        }
+        
+        private final File dir;
+        private final File file;
+        private final ExecutorService io = Executors.newSingleThreadExecutor(r -> {
+            Thread thread = new Thread(r, "duzeltme-gunlugu");
+            thread.setDaemon(true);
+            return thread;
+        });
+        private final java.util.ArrayDeque<Entry> queue = new java.util.ArrayDeque<>();
+        private boolean drainScheduled = false;
+        // Yalnızca io iş parçacığından erişilir
+        private BufferedWriter writer;
+        
+        CorrectionLog(File dir) {
+            this.dir = dir;
+            this.file = new File(dir, FILE_NAME);
+        }
+        
+        // Dosyanın çıktısı yazıldıktan sonra çağrılır; kayıtların zamanı karar anıdır
+        void commit(Batch batch) {
+            if (batch.entries.isEmpty()) {
+                return;
+            }
+            synchronized (this) {
+                queue.addAll(batch.entries);
+                batch.entries.clear();
+                if (drainScheduled) {
+                    return;
+                }
+                drainScheduled = true;
+            }
+            try {
+                io.execute(this::drain);
+            } catch (java.util.concurrent.RejectedExecutionException e) {
+                synchronized (this) {
+                    drainScheduled = false; // Günlük kapatıldı
+                }
+            }
+        }
+        
+        private void drain() {
+            List<Entry> entries;
+            synchronized (this) {
+                entries = new ArrayList<>(queue);
+                queue.clear();
+                drainScheduled = false;
+            }
+            try {
+                if (writer == null) {
+                    dir.mkdirs();
+                    writer = new BufferedWriter(new OutputStreamWriter(new FileOutputStream(file, true), "UTF-8"));
+                }
+                StringBuilder sb = new StringBuilder(160);
+                for (Entry entry : entries) {
+                    sb.setLength(0);
+                    sb.append("{\"zaman\":").append(jsonString(java.time.Instant.ofEpochMilli(entry.time).toString()))
+                      .append(",\"dosya\":").append(jsonString(entry.fileName))
+                      .append(",\"satir\":").append(entry.lineNumber)
+                      .append(",\"ofset\":").append(entry.offset)
+                      .append(",\"yanlis\":").append(jsonString(entry.wrong))
+                      .append(",\"duzeltme\":").append(entry.correction == null ? "null" : jsonString(entry.correction))
+                      .append(",\"islem\":").append(jsonString(entry.action))
+                      .append("}\n");
+                    writer.write(sb.toString());
+                }
+                writer.flush();
+                if (file.length() >= ROTATE_BYTES) {
+                    rotate();
+                }
+            } catch (IOException e) {
+                System.err.println("Duzeltme gunlugune yazilirken hata: " + e.getMessage());
+            }
+        }
+        
+        // Dolan dosyayı duzeltmeler-<zaman>.jsonl adıyla kenara alır; sonraki kayıtlar yeni dosyaya yazılır
+        private void rotate() throws IOException {
+            writer.close();
+            writer = null;
+            String timestamp = new SimpleDateFormat("yyyyMMdd_HHmmss").format(new Date());
+            File rotated = new File(dir, "duzeltmeler-" + timestamp + ".jsonl");
+            for (int n = 1; rotated.exists(); n++) {
+                rotated = new File(dir, "duzeltmeler-" + timestamp + "-" + n + ".jsonl");
             }
-            
-            final File finalCurrentFile = currentFile;
-            SwingUtilities.invokeLater(() -> {
-                loadFile(fileIndex);
-                statusLabel.setText("Isleniyor: " + finalCurrentFile.getName() + " (" + (fileIndex + 1) + "/" + selectedFiles.size() + ")");
-            });
-            
+            Files.move(file.toPath(), rotated.toPath());
+        }
+        
+        // Bekleyen kayıtları yazıp dosyayı kapatır
+        void close() {
+            io.shutdown();
             try {
-                String content = new String(Files.readAllBytes(currentFile.toPath()), "UTF-8");
-                
-                // Her dosya için ayrı düzeltme logu oluştur
-                StringBuilder fileCorrectionsLog = new StringBuilder();
-                
-                // Duraklatmadan devam ediliyorsa, kalınan kelimeden başla
-                int startFromIndex = (i == pausedFileIndex && isPaused.get() == false) ? pausedIncorrectWordIndex : 0;
-                
-                String correctedContent = processText(content, currentFile.getName(), fileCorrectionsLog, startFromIndex);
-                
-                // Eğer işlem durdurulduysa (geri al değil)
-                if (!isRunning.get() || (isPaused.get() && correctedContent == null)) {
-                    break;
+                io.awaitTermination(10, java.util.concurrent.TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            try {
+                if (writer != null) {
+                    writer.close();
+                    writer = null;
                 }
-                
-                // Eğer işlem duraklatıldıysa
-                if (isPaused.get()) {
+            } catch (IOException e) {
+                System.err.println("Duzeltme gunlugu kapatilirken hata: " + e.getMessage());
+            }
+        }
+    }
+    
+    // Düzeltilmiş dosyanın yolu: çalışma alanı aktifse onun Sonuc klasörü, değilse global Sonuc klasörü
+    private String correctedFileFor(String fileName) {
+        if (currentWorkspaceDir != null) {
+            File workspaceSonucDir = new File(currentWorkspaceDir, "Sonuc");
+            if (!workspaceSonucDir.exists()) {
+                workspaceSonucDir.mkdir();
+            }
+            return workspaceSonucDir.getPath() + "/" + fileName;
+        }
+        return "Sonuc/" + fileName;
+    }
+    
+    // Çalışma alanında taranan dosyayı Taranacak klasöründen Tarandi klasörüne taşır
+    private void moveToScanned(String fileName) throws IOException {
+        File sourceFile = new File(new File(currentWorkspaceDir, "Taranacak"), fileName);
+        File destFile = new File(new File(currentWorkspaceDir, "Tarandi"), fileName);
+        if (sourceFile.exists()) {
+            Files.move(sourceFile.toPath(), destFile.toPath(), java.nio.file.StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+    
+    private static final int REVIEW_SAMPLE_CONTEXTS = 3;
+    private static final int REVIEW_CONTEXT_CHARS = 120;
+    
+    // Benzersiz kelime incelemesi: bir hatalı kelimenin tüm dosyalardaki tekrar sayısı ve ilk birkaç bağlamı
+    private static class UniqueMisspelling {
+        final String word;
+        int count;
+        int fileCount;
+        String firstFileName;
+        int firstLineNumber;
+        final List<String> samples = new ArrayList<>(REVIEW_SAMPLE_CONTEXTS);
+        
+        UniqueMisspelling(String word) {
+            this.word = word;
+        }
+        
+        void addOccurrence(String fileName, int lineNumber, LineIndex lineIndex) {
+            if (count++ == 0) {
+                firstFileName = fileName;
+                firstLineNumber = lineNumber;
+            }
+            if (samples.size() < REVIEW_SAMPLE_CONTEXTS) {
+                String line = lineIndex.lineText(lineNumber).trim();
+                if (line.length() > REVIEW_CONTEXT_CHARS) {
+                    line = line.substring(0, REVIEW_CONTEXT_CHARS) + "...";
+                }
+                samples.add(fileName + ":" + lineNumber + ": " + line);
+            }
+        }
+        
+        // Dosya sırasıyla çağrılır; ilk görülen bağlamlar korunur
+        void merge(UniqueMisspelling other) {
+            if (count == 0) {
+                firstFileName = other.firstFileName;
+                firstLineNumber = other.firstLineNumber;
+            }
+            count += other.count;
+            fileCount += other.fileCount;
+            for (String sample : other.samples) {
+                if (samples.size() >= REVIEW_SAMPLE_CONTEXTS) {
                     break;
                 }
-                
-                // Düzeltilmiş içeriği orijinal dosya ismi ile kaydet
-                String correctedFileName;
-                if (currentWorkspaceDir != null) {
-                    // Çalışma alanı aktifse, çalışma alanının altında Sonuc klasörü oluştur
-                    File workspaceSonucDir = new File(currentWorkspaceDir, "Sonuc");
-                    if (!workspaceSonucDir.exists()) {
-                        workspaceSonucDir.mkdir();
+                samples.add(sample);
+            }
+        }
+    }
+    
+    // Bir dosyanın (büyükse parça parça) ön taramasından benzersiz hatalı kelimelerini toplar
+    private java.util.Map<String, UniqueMisspelling> collectMisspellings(File sourceFile) throws IOException {
+        java.util.Map<String, UniqueMisspelling> found = new java.util.LinkedHashMap<>();
+        String fileName = sourceFile.getName();
+        if (isStreamingFile(sourceFile)) {
+            try (TextChunkSource source = openChunkSource(sourceFile, STREAMING_CHUNK_CHARS)) {
+                int lineNumber = 1;
+                for (String chunk = source.nextChunk(); chunk != null; chunk = source.nextChunk()) {
+                    collectMisspellings(prescanText(chunk, lineNumber), fileName, found);
+                    for (int i = chunk.indexOf('\n'); i >= 0; i = chunk.indexOf('\n', i + 1)) {
+                        lineNumber++;
                     }
-                    correctedFileName = workspaceSonucDir.getPath() + "/" + currentFile.getName();
-                } else {
-                    // Normal modda global Sonuc klasörünü kullan
-                    correctedFileName = "Sonuc/" + currentFile.getName();
                 }
-                Files.write(Paths.get(correctedFileName), correctedContent.getBytes("UTF-8"));
-                
-                // Eğer aktif bir çalışma alanı varsa, dosyayı Tarandi klasörüne taşı
-                if (currentWorkspaceDir != null) {
-                    try {
-                        File taranacakDir = new File(currentWorkspaceDir, "Taranacak");
-                        File tarandiDir = new File(currentWorkspaceDir, "Tarandi");
-                        File sourceFile = new File(taranacakDir, currentFile.getName());
-                        File destFile = new File(tarandiDir, currentFile.getName());
-                        
-                        if (sourceFile.exists()) {
-                            Files.move(sourceFile.toPath(), destFile.toPath(), java.nio.file.StandardCopyOption.REPLACE_EXISTING);
-                        }
-                    } catch (IOException e) {
-                        SwingUtilities.invokeLater(() -> {
-                            JOptionPane.showMessageDialog(this, 
-                                "Dosya calisma alanina tasinirken hata: " + e.getMessage(),
-                                "Hata", JOptionPane.ERROR_MESSAGE);
-                        });
+            }
+        } else {
+            collectMisspellings(prescanFile(sourceFile), fileName, found);
+        }
+        for (UniqueMisspelling misspelling : found.values()) {
+            misspelling.fileCount = 1;
+        }
+        return found;
+    }
+    
+    private void collectMisspellings(PrescanResult scan, String fileName, java.util.Map<String, UniqueMisspelling> found) {
+        List<String> tokens = new ArrayList<>(scan.tokens.size());
+        for (Token token : scan.tokens) {
+            tokens.add(token.getText());
+        }
+        LineIndex lineIndex = new LineIndex(scan.content, tokens, scan.firstLineNumber);
+        for (int tokenIndex : scan.misspelledTokenIndices) {
+            String word = tokens.get(tokenIndex);
+            if (eliminatedWords.contains(word) || engine.correction(word) != null) {
+                continue; // Yazma aşamasında zaten otomatik uygulanır
+            }
+            found.computeIfAbsent(word, UniqueMisspelling::new)
+                .addOccurrence(fileName, lineIndex.lineNumberOfToken(tokenIndex), lineIndex);
+        }
+    }
+    
+    // Ön taramadaki hatalı kelimelere verilen kararları (yoksa kayıtlı kelimeleri) uygular, düzeltilmiş metni döner
+    private String[] applyReviewDecisions(PrescanResult scan, java.util.Map<String, String> decisions, String fileName, CorrectionLog.Batch corrections) {
+        logPrepassReplacements(scan, fileName, corrections);
+        String[] correctedTokens = new String[scan.tokens.size()];
+        List<String> tokens = new ArrayList<>(scan.tokens.size());
+        for (Token token : scan.tokens) {
+            correctedTokens[tokens.size()] = token.getText();
+            tokens.add(token.getText());
+        }
+        LineIndex lineIndex = new LineIndex(scan.content, tokens, scan.firstLineNumber);
+        for (int tokenIndex : scan.misspelledTokenIndices) {
+            String word = tokens.get(tokenIndex);
+            if (eliminatedWords.contains(word)) {
+                continue;
+            }
+            String correction = decisions.get(word);
+            String action = CorrectionLog.UNIQUE_REVIEW;
+            if (correction == null) {
+                correction = engine.correction(word);
+                action = CorrectionLog.SAVED;
+            }
+            if (correction != null && !correction.equals(word)) {
+                correctedTokens[tokenIndex] = correction;
+                corrections.record(fileName, lineIndex.lineNumberOfToken(tokenIndex), scan.fileOffset(lineIndex.tokenStart(tokenIndex)),
+                    word, correction, action);
+            }
+        }
+        return correctedTokens;
+    }
+    
+    // Kararları tek bir dosyaya uygulayıp Sonuc klasörüne yazar; büyük dosyalar parça parça akıtılır
+    private void writeReviewedFile(File sourceFile, java.util.Map<String, String> decisions) throws IOException {
+        String fileName = sourceFile.getName();
+        File targetFile = new File(correctedFileFor(fileName));
+        CorrectionLog.Batch corrections = new CorrectionLog.Batch();
+        if (isStreamingFile(sourceFile)) {
+            File partFile = new File(targetFile.getPath() + ".part");
+            boolean completed = false;
+            try (TextChunkSource source = openChunkSource(sourceFile, STREAMING_CHUNK_CHARS);
+                 java.nio.channels.FileChannel channel = java.nio.channels.FileChannel.open(partFile.toPath(),
+                     java.nio.file.StandardOpenOption.CREATE, java.nio.file.StandardOpenOption.TRUNCATE_EXISTING, java.nio.file.StandardOpenOption.WRITE);
+                 Writer writer = new BufferedWriter(java.nio.channels.Channels.newWriter(channel, java.nio.charset.StandardCharsets.UTF_8), OutputStage.WRITE_BUFFER_CHARS)) {
+                int lineNumber = 1;
+                long chunkOffset = 0;
+                for (String chunk = source.nextChunk(); chunk != null; chunk = source.nextChunk()) {
+                    PrescanResult scan = prescanText(chunk, lineNumber, chunkOffset);
+                    for (String token : applyReviewDecisions(scan, decisions, fileName, corrections)) {
+                        writer.write(token);
                     }
-                }
-                
-                // Bu dosya için düzeltmeleri ayrı dosyaya kaydet (sadece düzeltme varsa)
-                if (fileCorrectionsLog.length() > 0) {
-                    try {
-                        String timestamp = new SimpleDateFormat("yyyyMMdd_HHmmss").format(new Date());
-                        String baseFileName = currentFile.getName().replaceFirst("[.][^.]+$", ""); // Uzantıyı kaldır
-                        
-                        String correctionsFileName;
-                        if (currentWorkspaceDir != null) {
-                            File workspaceDuzeltmelerDir = new File(currentWorkspaceDir, "Duzeltmeler");
-                            if (!workspaceDuzeltmelerDir.exists()) {
-                                workspaceDuzeltmelerDir.mkdir();
-                            }
-                            correctionsFileName = workspaceDuzeltmelerDir.getPath() + "/" + baseFileName + "_duzeltmesi_" + timestamp + ".txt";
-                        } else {
-                            correctionsFileName = "Duzeltmeler/" + baseFileName + "_duzeltmesi_" + timestamp + ".txt";
-                        }
-                        
-                        Files.write(Paths.get(correctionsFileName), fileCorrectionsLog.toString().getBytes("UTF-8"));
-                    } catch (IOException e) {
-                        SwingUtilities.invokeLater(() -> {
-                            JOptionPane.showMessageDialog(this, 
-                                "Duzeltmeler kaydedilirken hata: " + e.getMessage(),
-                                "Hata", JOptionPane.ERROR_MESSAGE);
-                        });
+                    for (int i = chunk.indexOf('\n'); i >= 0; i = chunk.indexOf('\n', i + 1)) {
+                        lineNumber++;
                     }
+                    chunkOffset += chunk.length();
+                }
+                writer.flush();
+                channel.force(false);
+                completed = true;
+            } finally {
+                if (!completed) {
+                    partFile.delete();
                 }
-                
-                // Son düzeltilmiş içeriği göster
-                final String finalContent = correctedContent;
-                SwingUtilities.invokeLater(() -> {
-                    outputArea.setText(finalContent);
-                    outputArea.setCaretPosition(0); // Başa git
-                });
-                
-                // İlerleme çubuğunu güncelle
-                final int progress = (int) Math.round(((double) (i + 1) / totalFileCount) * 100);
-                SwingUtilities.invokeLater(() -> progressBar.setValue(progress));
-                
-                // Dosya tamamlandı, bir sonraki dosyaya geç
-                currentIncorrectWordIndex = 0;
-                pausedIncorrectWordIndex = 0;
-                
-            } catch (IOException e) {
-                SwingUtilities.invokeLater(() -> {
-                    JOptionPane.showMessageDialog(this, 
-                        "Dosya islenirken hata: " + e.getMessage(),
-                        "Hata", JOptionPane.ERROR_MESSAGE);
-                });
             }
+            OutputStage.moveAtomically(partFile, targetFile);
+        } else {
+            PrescanResult scan = prescanFile(sourceFile);
+            OutputStage.writeTokens(targetFile, applyReviewDecisions(scan, decisions, fileName, corrections));
         }
-        
-        // Tüm dosyalar tamamlandı (duraklatılmadıysa)
-        if (isRunning.get() && !isPaused.get()) {
-            SwingUtilities.invokeLater(() -> {
-                startButton.setEnabled(true);
-                continueButton.setEnabled(false);
-                statusLabel.setText("Tamamlandi");
-                progressBar.setValue(100);
-            });
+        correctionLogFor().commit(corrections);
+        if (currentWorkspaceDir != null) {
+            moveToScanned(fileName);
         }
     }
     
-    private String processText(String inputText, String fileName, StringBuilder fileCorrectionsLog, int startFromIncorrectWordIndex) {
+    // Benzersiz kelime modu: 1) tüm dosyalardaki hatalı kelimeleri paralel toplar, 2) her kelimeyi tekrar sayısına göre
+    // bir kez sorar, 3) kararları tüm dosyalara paralel olarak uygular. Öneriler kelime başına bir kez hesaplanır.
+    private void reviewUniqueMisspellings() {
+        final int totalFileCount = selectedFiles.size();
         
-        // 1. Tüm metni kelimelere ve diğer karakterlere ayır (tokenization)
-        List<String> tokensAsString = new ArrayList<>();
-        List<Token> tokens = tokenizer.tokenize(inputText);
-        for (Token token : tokens) {
-            tokensAsString.add(token.getText());
+        // 1. Toplama: dosyalar paralel taranır, sonuçlar dosya sırasıyla birleştirilir
+        List<File> sourceFiles = new ArrayList<>();
+        List<CompletableFuture<java.util.Map<String, UniqueMisspelling>>> collected = new ArrayList<>();
+        for (File listFile : selectedFiles) {
+            File sourceFile = resolveWorkingFile(listFile);
+            if (sourceFile == null) {
+                continue;
+            }
+            sourceFiles.add(sourceFile);
+            collected.add(CompletableFuture.supplyAsync(() -> {
+                try {
+                    return collectMisspellings(sourceFile);
+                } catch (IOException e) {
+                    throw new CompletionException(e);
+                }
+            }, prescanPool));
         }
-
-        // 2. Hatalı kelimelerin indekslerini bul
-        List<Integer> incorrectTokenIndices = new ArrayList<>();
-        for (int i = 0; i < tokensAsString.size(); i++) {
-            String token = tokensAsString.get(i);
-            if (tokens.get(i).getType() == Token.Type.Word && !spellChecker.check(token) && !eliminatedWords.contains(token)) {
-                // Kayıtlı kelimeleri kontrol et
-                if (savedWords.containsKey(token)) {
-                    // Kayıtlı kelime bulundu, otomatik düzelt
-                    String correctWord = savedWords.get(token);
-                    tokensAsString.set(i, correctWord);
-                    // Düzeltme loguna ekle
-                    fileCorrectionsLog.append(String.format("Dosya: %s, Satir: %d, Yanlis: %s, Duzeltme: %s (Kayitli)\n",
-                            fileName, 0, token, correctWord));
-                } else {
-                incorrectTokenIndices.add(i);
+        java.util.Map<String, UniqueMisspelling> merged = new java.util.LinkedHashMap<>();
+        List<String> failedFiles = new ArrayList<>();
+        for (int f = 0; f < collected.size(); f++) {
+            if (!isRunning.get() || spellCheckScheduler.isCancelled()) {
+                collected.forEach(future -> future.cancel(false));
+                return;
+            }
+            try {
+                for (UniqueMisspelling misspelling : collected.get(f).join().values()) {
+                    merged.computeIfAbsent(misspelling.word, UniqueMisspelling::new).merge(misspelling);
                 }
+            } catch (CompletionException e) {
+                failedFiles.add(sourceFiles.get(f).getName());
             }
+            final int scannedFiles = f + 1;
+            SwingUtilities.invokeLater(() -> {
+                statusLabel.setText("Hatali kelimeler toplaniyor: " + scannedFiles + "/" + totalFileCount + " dosya");
+                progressBar.setValue(scannedFiles * 30 / Math.max(1, collected.size()));
+            });
         }
-
-        // 3. Düzeltme döngüsü
-        String[] correctedTokens = tokensAsString.toArray(new String[0]);
-        String[] lines = inputText.split("\\r?\\n");
-
-        for (int i = startFromIncorrectWordIndex; i < incorrectTokenIndices.size(); i++) {
-             // Duraklatma ve durdurma kontrolü
-            while (isPaused.get() && isRunning.get()) {
-                try {
-                    Thread.sleep(100);
-                } catch (InterruptedException e) { Thread.currentThread().interrupt(); break; }
+        
+        // En sık görülen kelime önce; eşitlikte ilk görülme sırası korunur (sıralama kararlıdır)
+        List<UniqueMisspelling> misspellings = new ArrayList<>(merged.values());
+        misspellings.sort((a, b) -> Integer.compare(b.count, a.count));
+        
+        // 2. İnceleme: her benzersiz kelime bir kez sorulur
+        java.util.Map<String, String> decisions = new java.util.HashMap<>();
+        // Elenmiş olduğu için sorulmadan geçilen kelimeler (geri almada atlanır)
+        java.util.BitSet skipped = new java.util.BitSet(misspellings.size());
+        for (int i = 0; i < misspellings.size(); i++) {
+            if (!spellCheckScheduler.awaitIfPaused()) {
+                return;
             }
-            if (!isRunning.get()) break;
-
-            currentIncorrectWordIndex = i;
-            int tokenIndex = incorrectTokenIndices.get(i);
-            String wrongWord = tokensAsString.get(tokenIndex);
-
-            // ANINDA KONTROL: Kelime döngü içinde elenmiş olabilir, tekrar kontrol et.
-            if (eliminatedWords.contains(wrongWord)) {
-                continue; // Bu kelimeyi atla ve döngüye devam et
+            if (!isRunning.get()) {
+                engine.cancelPrefetches();
+                return;
             }
-
-            // Satır numarasını ve içeriğini bul
-            int charCount = 0;
-            int lineNumber = 1;
-            for (int j = 0; j < tokenIndex; j++) {
-                for(char c : tokensAsString.get(j).toCharArray()) {
-                    if (c == '\n') lineNumber++;
-                }
+            UniqueMisspelling misspelling = misspellings.get(i);
+            if (eliminatedWords.contains(misspelling.word)) {
+                skipped.set(i);
+                continue;
             }
-            String lineContent = (lineNumber <= lines.length) ? lines[lineNumber - 1] : "";
-
-            List<String> suggestions = spellChecker.suggestForWord(wrongWord);
+            skipped.clear(i);
+            for (int k = i + 1; k < misspellings.size() && k <= i + PREFETCH_LOOKAHEAD; k++) {
+                engine.prefetch(misspellings.get(k).word);
+            }
+            final int reviewed = i;
+            SwingUtilities.invokeLater(() -> {
+                statusLabel.setText("Benzersiz kelimeler: " + (reviewed + 1) + "/" + misspellings.size());
+                progressBar.setValue(30 + reviewed * 40 / misspellings.size());
+            });
+            
+            String fileInfo = misspelling.firstFileName + " (" + misspelling.count + " tekrar, " + misspelling.fileCount + " dosya)";
+            int previous = i > 0 ? skipped.previousClearBit(i - 1) : -1;
+            CorrectionResult result = askUserForCorrectionWithCustomInput(misspelling.word,
+                engine.suggest(misspelling.word), misspelling.firstLineNumber, fileInfo,
+                String.join("  |  ", misspelling.samples), previous >= 0);
             
-            CorrectionResult result = askUserForCorrectionWithCustomInput(
-                wrongWord, suggestions, lineNumber, fileName, lineContent, i > 0);
-
             switch (result.action) {
                 case UNDO:
-                    // Bir önceki hatalı kelimenin düzeltmesini geri al
-                    if (i > 0) {
-                        int prevIncorrectTokenIndex = incorrectTokenIndices.get(i-1);
-                        correctedTokens[prevIncorrectTokenIndex] = tokensAsString.get(prevIncorrectTokenIndex);
+                    // Karar verilmiş bir önceki kelimenin kararını geri al ve tekrar sor
+                    if (previous >= 0) {
+                        decisions.remove(misspellings.get(previous).word);
                     }
-                    i = Math.max(-1, i - 2); // Döngü i++ yapacağı için -2
-                    continue; // Döngünün başına dön
+                    i = previous - 1;
+                    continue;
                 case ACCEPT:
                 case CUSTOM:
-                    correctedTokens[tokenIndex] = result.text;
-                    if (!result.text.equals(wrongWord)) {
-                        fileCorrectionsLog.append(String.format("Dosya: %s, Satir: %d, Yanlis: %s, Duzeltme: %s\n",
-                                fileName, lineNumber, wrongWord, result.text));
-                    }
-                    break;
                 case APPLY_TO_FILE:
-                    // Bu dosyada aynı kelimeyi bul ve düzelt
-                    correctedTokens[tokenIndex] = result.text;
-                    if (!result.text.equals(wrongWord)) {
-                        fileCorrectionsLog.append(String.format("Dosya: %s, Satir: %d, Yanlis: %s, Duzeltme: %s (Dosyaya Uygulandi)\n",
-                                fileName, lineNumber, wrongWord, result.text));
-                    }
-                    // Bu dosyada aynı kelimeyi bul ve düzelt, sonra incorrectTokenIndices'den çıkar
-                    for (int j = incorrectTokenIndices.size() - 1; j > i; j--) {
-                        int nextTokenIndex = incorrectTokenIndices.get(j);
-                        String nextWrongWord = tokensAsString.get(nextTokenIndex);
-                        if (nextWrongWord.equals(wrongWord)) {
-                            correctedTokens[nextTokenIndex] = result.text;
-                            fileCorrectionsLog.append(String.format("Dosya: %s, Satir: %d, Yanlis: %s, Duzeltme: %s (Otomatik)\n",
-                                    fileName, 0, nextWrongWord, result.text));
-                            incorrectTokenIndices.remove(j);
-                        }
-                    }
-                    break;
-                case APPLY_TO_ALL_FILES:
-                    // Bu kelimeyi düzelt ve kayıtlı kelimelere ekle (zaten eklenmiş)
-                    correctedTokens[tokenIndex] = result.text;
-                    if (!result.text.equals(wrongWord)) {
-                        fileCorrectionsLog.append(String.format("Dosya: %s, Satir: %d, Yanlis: %s, Duzeltme: %s (Tum Dosyalara Uygulandi)\n",
-                                fileName, lineNumber, wrongWord, result.text));
-                    }
-                    // Bu dosyada aynı kelimeyi bul ve düzelt, sonra incorrectTokenIndices'den çıkar
-                    for (int j = incorrectTokenIndices.size() - 1; j > i; j--) {
-                        int nextTokenIndex = incorrectTokenIndices.get(j);
-                        String nextWrongWord = tokensAsString.get(nextTokenIndex);
-                        if (nextWrongWord.equals(wrongWord)) {
-                            correctedTokens[nextTokenIndex] = result.text;
-                            fileCorrectionsLog.append(String.format("Dosya: %s, Satir: %d, Yanlis: %s, Duzeltme: %s (Otomatik)\n",
-                                    fileName, 0, nextWrongWord, result.text));
-                            incorrectTokenIndices.remove(j);
-                        }
+                case APPLY_TO_ALL_FILES: // Kayıtlı kelimelere dialog içinde eklendi
+                    if (result.text.equals(misspelling.word)) {
+                        decisions.remove(misspelling.word);
+                    } else {
+                        decisions.put(misspelling.word, result.text);
                     }
                     break;
                 case IGNORE:
-                    // Değişiklik yapma, orijinal kelime kalır
+                    decisions.remove(misspelling.word);
                     break;
                 case ELIMINATE:
-                    eliminatedWords.add(wrongWord);
-                    saveEliminatedWordsIfEnabled();
+                    addEliminatedWord(misspelling.word);
                     break;
                 case PAUSE:
+                    engine.cancelPrefetches();
                     isPaused.set(true);
-                    pausedFileIndex = currentFileIndex;
-                    pausedIncorrectWordIndex = i; // Hatalı kelime listesindeki indeksi kaydet
-                    return null; // Duraklatıldığını belirtmek için null dön
+                    // "Kaldigin yerden devam et" aynı kelimeyi tekrar sorar
+                    spellCheckScheduler.pause();
+                    i--;
+                    continue;
                 case STOP:
-                     isRunning.set(false);
-                     return null;
+                    engine.cancelPrefetches();
+                    isRunning.set(false);
+                    return;
+            }
+        }
+        engine.cancelPrefetches();
+        
+        // 3. Yazma: kararlar tüm dosyalara paralel uygulanır
+        final int reviewedWords = misspellings.size();
+        AtomicInteger writtenFiles = new AtomicInteger();
+        List<CompletableFuture<Void>> writes = new ArrayList<>();
+        for (File sourceFile : sourceFiles) {
+            writes.add(CompletableFuture.runAsync(() -> {
+                if (!isRunning.get() || spellCheckScheduler.isCancelled()) {
+                    return;
+                }
+                try {
+                    writeReviewedFile(sourceFile, decisions);
+                } catch (IOException e) {
+                    throw new CompletionException(e);
+                }
+                int written = writtenFiles.incrementAndGet();
+                SwingUtilities.invokeLater(() -> {
+                    statusLabel.setText("Duzeltmeler yaziliyor: " + written + "/" + sourceFiles.size() + " dosya");
+                    progressBar.setValue(70 + written * 30 / sourceFiles.size());
+                });
+            }, prescanPool));
+        }
+        for (int f = 0; f < writes.size(); f++) {
+            try {
+                writes.get(f).join();
+            } catch (CompletionException e) {
+                failedFiles.add(sourceFiles.get(f).getName());
+            }
+        }
+        
+        if (isRunning.get() && !spellCheckScheduler.isCancelled()) {
+            final String summary = "Tamamlandi - " + reviewedWords + " benzersiz kelime, " + decisions.size() + " karar, "
+                + writtenFiles.get() + " dosya yazildi";
+            SwingUtilities.invokeLater(() -> {
+                startButton.setEnabled(true);
+                continueButton.setEnabled(false);
+                statusLabel.setText(summary);
+                progressBar.setValue(100);
+                if (!failedFiles.isEmpty()) {
+                    JOptionPane.showMessageDialog(this, 
+                        "Su dosyalar islenirken hata olustu: " + String.join(", ", failedFiles),
+                        "Hata", JOptionPane.ERROR_MESSAGE);
+                }
+            });
+        }
+    }
+    
+    // Düzeltilmiş token dizisini döner (birleştirilmez; çıktı aşaması doğrudan dosyaya akıtır), durdurulduysa null.
+    // Düzeltme döngüsü motorda yürür; kararlar düzeltme penceresinden alınır, değişiklikler düzeltme günlüğüne yazılır.
+    private String[] processText(PrescanResult scan, String fileName, CorrectionLog.Batch corrections, int startFromIncorrectWordIndex) {
+        Set<String> scannedWords = currentFileScannedWords;
+        if (scannedWords != null) {
+            SavedWordAutomaton.Replacements prepass = scan.savedReplacements;
+            scannedWords.addAll(java.util.Arrays.asList(prepass.wrongWords).subList(0, prepass.count));
+            for (int tokenIndex : scan.misspelledTokenIndices) {
+                scannedWords.add(scan.tokens.get(tokenIndex).getText());
             }
         }
         
+        String[] correctedTokens = engine.correct(scan, fileName, startFromIncorrectWordIndex, new SpellCheckEngine.DecisionCallback() {
+            // Duraklatıldıysa sürdürülene kadar bekle; iptal edildiyse veya durdurulduysa döngü biter
+            @Override
+            public boolean proceed() {
+                return spellCheckScheduler.awaitIfPaused() && isRunning.get();
+            }
+            
+            @Override
+            public CorrectionResult decide(SpellCheckEngine.DecisionRequest request) {
+                currentIncorrectWordIndex = request.position;
+                CorrectionResult result = askUserForCorrectionWithCustomInput(
+                    request.word, request.suggestions, request.lineNumber, request.fileName, request.lineContent, request.canUndo);
+                switch (result.action) {
+                    case ELIMINATE:
+                        addEliminatedWord(request.word);
+                        break;
+                    case PAUSE:
+                        isPaused.set(true);
+                        pausedFileIndex = currentFileIndex;
+                        pausedIncorrectWordIndex = request.position; // Hatalı kelime listesindeki (sabit) konumu kaydet
+                        // Motor aynı kelimeye döner ve proceed'de bekler; "Kaldigin yerden devam et" aynı kelimeyi tekrar sorar
+                        spellCheckScheduler.pause();
+                        break;
+                    case STOP:
+                        isRunning.set(false);
+                        break;
+                    default:
+                        break;
+                }
+                return result;
+            }
+            
+            @Override
+            public void corrected(String fileName, int lineNumber, long offset, String wrong, String correction, String action) {
+                corrections.record(fileName, lineNumber, offset, wrong, correction, action);
+            }
+        });
+        
         if (!isRunning.get() || isPaused.get()) {
             return null;
         }
-
-        // 4. Düzeltilmiş metni birleştir
-        return String.join("", correctedTokens);
+        return correctedTokens;
+    }
+    
+    // Sorulan hata giriş alanında gösterilen dosyadaysa o satıra gider (büyük dosyada sanal görüntüleyicide)
+    private void showErrorLine(String fileName, int lineNumber) {
+        if (lineNumber < 1 || !fileName.equals(displayedFileName)) {
+            return;
+        }
+        if (inputViewer.isShowingFile()) {
+            inputViewer.jumpToLine(lineNumber);
+        } else if (lineNumber <= inputArea.getLineCount()) {
+            try {
+                inputArea.setCaretPosition(inputArea.getLineStartOffset(lineNumber - 1));
+                inputArea.requestFocusInWindow();
+            } catch (javax.swing.text.BadLocationException e) {
+                // Satır yok, konum değişmez
+            }
+        }
     }
     
     private boolean isWordToken(String text) {
@@ -1004,6 +5890,8 @@ public class TurkishSpellCheckerSimple extends JFrame {
                 return;
             }
             
+            showErrorLine(fileName, lineNumber);
+            
             JDialog dialog = new JDialog(this, "Yazim Hatasi Duzeltme", true);
             dialog.setLayout(new BorderLayout(10, 10));
             
@@ -1071,8 +5959,7 @@ public class TurkishSpellCheckerSimple extends JFrame {
                 String customText = customField.getText().trim();
                 if (!customText.isEmpty()) {
                     // Kayıtlı kelimelere ekle
-                    savedWords.put(wrongWord, customText);
-                    saveSavedWordsIfEnabled();
+                    putSavedWord(wrongWord, customText);
                     resultWrapper[0] = new CorrectionResult(UserAction.APPLY_TO_ALL_FILES, customText);
                     dialog.dispose();
                     latch.countDown();
@@ -1190,20 +6077,20 @@ public class TurkishSpellCheckerSimple extends JFrame {
                 statusLabel.setText("Devam ediliyor...");
                 startButton.setEnabled(false);
                 continueButton.setEnabled(false);
-                // Kaldığı yerden devam etmek için processAllFiles'ı tekrar çağır
-                new Thread(() -> {
-                    processAllFiles();
-                }).start();
+                // Duraklatılıp bekleyen çalıştırmayı aynı kelimeden uyandır; bekleyen yoksa kaldığı yerden yeni çalıştırma başlat
+                if (!spellCheckScheduler.resume()) {
+                    spellCheckScheduler.submit(this::processAllFiles);
+                }
             } else if (choice == 1) { // Seçili dosyadan başla
+                spellCheckScheduler.cancel(); // Bekleyen çalıştırma çıkar, yenisi executor'da onun ardından başlar
                 isPaused.set(false);
                 currentIncorrectWordIndex = 0;
                 pausedIncorrectWordIndex = 0; // Sıfırla
+                pausedChunkIndex = 0;
                 statusLabel.setText("Secili dosyadan basliyor...");
                 startButton.setEnabled(false);
                 continueButton.setEnabled(false);
-                new Thread(() -> {
-                    processAllFiles();
-                }).start();
+                spellCheckScheduler.submit(this::processAllFiles);
             }
             // choice == 2 ise iptal, hiçbir şey yapma
         }
@@ -1217,7 +6104,7 @@ public class TurkishSpellCheckerSimple extends JFrame {
 
         DefaultListModel<String> listModel = new DefaultListModel<>();
         // En son eklenen en başta olacak şekilde listele
-        List<String> wordsList = new ArrayList<>(eliminatedWords);
+        List<String> wordsList = new ArrayList<>(eliminatedWords.snapshot());
         Collections.reverse(wordsList);
         for (String word : wordsList) {
             listModel.addElement(word);
@@ -1232,15 +6119,14 @@ public class TurkishSpellCheckerSimple extends JFrame {
             String newWord = JOptionPane.showInputDialog(dialog, "Eklenecek kelimeyi girin:", "Kelime Ekle", JOptionPane.PLAIN_MESSAGE);
             if (newWord != null && !newWord.trim().isEmpty()) {
                 String trimmedWord = newWord.trim();
-                if (eliminatedWords.add(trimmedWord)) {
+                if (addEliminatedWord(trimmedWord)) {
                     listModel.clear();
                     // En son eklenen en başta olacak şekilde listele
-                    List<String> newWordsList = new ArrayList<>(eliminatedWords);
+                    List<String> newWordsList = new ArrayList<>(eliminatedWords.snapshot());
                     Collections.reverse(newWordsList);
                     for (String word : newWordsList) {
                         listModel.addElement(word);
                     }
-                    saveEliminatedWordsIfEnabled();
                 } else {
                     JOptionPane.showMessageDialog(dialog, "Bu kelime zaten listede mevcut.", "Uyari", JOptionPane.WARNING_MESSAGE);
                 }
@@ -1251,9 +6137,8 @@ public class TurkishSpellCheckerSimple extends JFrame {
         removeButton.addActionListener(e -> {
             String selectedWord = list.getSelectedValue();
             if (selectedWord != null) {
-                eliminatedWords.remove(selectedWord);
+                removeEliminatedWord(selectedWord);
                 listModel.removeElement(selectedWord);
-                saveEliminatedWordsIfEnabled();
             } else {
                 JOptionPane.showMessageDialog(dialog, "Lutfen listeden bir kelime secin.", "Uyari", JOptionPane.WARNING_MESSAGE);
             }
@@ -1268,9 +6153,8 @@ public class TurkishSpellCheckerSimple extends JFrame {
                 JOptionPane.WARNING_MESSAGE);
             
             if (result == JOptionPane.YES_OPTION) {
-                eliminatedWords.clear();
+                clearEliminatedWords();
                 listModel.clear();
-                saveEliminatedWordsIfEnabled();
                 JOptionPane.showMessageDialog(dialog, "Liste basariyla temizlendi.", "Basarili", JOptionPane.INFORMATION_MESSAGE);
             }
         });
@@ -1290,7 +6174,7 @@ public class TurkishSpellCheckerSimple extends JFrame {
 
                 try (BufferedWriter writer = new BufferedWriter(new OutputStreamWriter(new FileOutputStream(fileToSave), "UTF-8"))) {
                     // En son eklenen en başta olacak şekilde export et
-                    List<String> exportWordsList = new ArrayList<>(eliminatedWords);
+                    List<String> exportWordsList = new ArrayList<>(eliminatedWords.snapshot());
                     Collections.reverse(exportWordsList);
                     for (String word : exportWordsList) {
                         writer.write(word);
@@ -1317,19 +6201,18 @@ public class TurkishSpellCheckerSimple extends JFrame {
                     int count = 0;
                     while ((line = reader.readLine()) != null) {
                         String word = line.trim();
-                        if (!word.isEmpty() && eliminatedWords.add(word)) {
+                        if (!word.isEmpty() && addEliminatedWord(word)) {
                            count++;
                         }
                     }
                     
                     listModel.clear();
                     // En son eklenen en başta olacak şekilde listele
-                    List<String> importWordsList = new ArrayList<>(eliminatedWords);
+                    List<String> importWordsList = new ArrayList<>(eliminatedWords.snapshot());
                     Collections.reverse(importWordsList);
                     for (String word : importWordsList) {
                         listModel.addElement(word);
                     }
-                    saveEliminatedWordsIfEnabled();
                     JOptionPane.showMessageDialog(dialog, count + " yeni kelime iceri aktarildi.", "Basarili", JOptionPane.INFORMATION_MESSAGE);
 
                 } catch (IOException ex) {
@@ -1359,11 +6242,11 @@ public class TurkishSpellCheckerSimple extends JFrame {
 
         // Tablo modeli oluştur
         String[] columnNames = {"Yanlis Kelime", "Dogru Kelime"};
-        Object[][] data = new Object[savedWords.size()][2];
-        int i = 0;
         // En son eklenen en üstte olacak şekilde listele
-        List<java.util.Map.Entry<String, String>> entries = new ArrayList<>(savedWords.entrySet());
+        List<java.util.Map.Entry<String, String>> entries = new ArrayList<>(savedWords.snapshot());
         Collections.reverse(entries);
+        Object[][] data = new Object[entries.size()][2];
+        int i = 0;
         for (java.util.Map.Entry<String, String> entry : entries) {
             data[i][0] = entry.getKey();
             data[i][1] = entry.getValue();
@@ -1389,17 +6272,16 @@ public class TurkishSpellCheckerSimple extends JFrame {
                 if (correctWord != null && !correctWord.trim().isEmpty()) {
                     String trimmedWrong = wrongWord.trim();
                     String trimmedCorrect = correctWord.trim();
-                    savedWords.put(trimmedWrong, trimmedCorrect);
+                    putSavedWord(trimmedWrong, trimmedCorrect);
                     
                     // Tabloyu yeniden oluştur
                     tableModel.setRowCount(0);
-                    List<java.util.Map.Entry<String, String>> newEntries = new ArrayList<>(savedWords.entrySet());
+                    List<java.util.Map.Entry<String, String>> newEntries = new ArrayList<>(savedWords.snapshot());
                     Collections.reverse(newEntries);
                     for (java.util.Map.Entry<String, String> entry : newEntries) {
                         tableModel.addRow(new Object[]{entry.getKey(), entry.getValue()});
                     }
                     
-                    saveSavedWordsIfEnabled();
                 }
             }
         });
@@ -1409,9 +6291,8 @@ public class TurkishSpellCheckerSimple extends JFrame {
             int selectedRow = table.getSelectedRow();
             if (selectedRow >= 0) {
                 String wrongWord = (String) table.getValueAt(selectedRow, 0);
-                savedWords.remove(wrongWord);
+                removeSavedWord(wrongWord);
                 tableModel.removeRow(selectedRow);
-                saveSavedWordsIfEnabled();
             } else {
                 JOptionPane.showMessageDialog(dialog, "Lutfen listeden bir kelime secin.", "Uyari", JOptionPane.WARNING_MESSAGE);
             }
@@ -1426,9 +6307,8 @@ public class TurkishSpellCheckerSimple extends JFrame {
                 JOptionPane.WARNING_MESSAGE);
             
             if (result == JOptionPane.YES_OPTION) {
-                savedWords.clear();
+                clearSavedWords();
                 tableModel.setRowCount(0);
-                saveSavedWordsIfEnabled();
                 JOptionPane.showMessageDialog(dialog, "Liste basariyla temizlendi.", "Basarili", JOptionPane.INFORMATION_MESSAGE);
             }
         });
@@ -1447,7 +6327,7 @@ public class TurkishSpellCheckerSimple extends JFrame {
                 }
 
                 try (BufferedWriter writer = new BufferedWriter(new OutputStreamWriter(new FileOutputStream(fileToSave), "UTF-8"))) {
-                    for (java.util.Map.Entry<String, String> entry : savedWords.entrySet()) {
+                    for (java.util.Map.Entry<String, String> entry : savedWords.snapshot()) {
                         writer.write(entry.getKey() + "=" + entry.getValue());
                         writer.newLine();
                     }
@@ -1478,7 +6358,7 @@ public class TurkishSpellCheckerSimple extends JFrame {
                                 String wrongWord = parts[0].trim();
                                 String correctWord = parts[1].trim();
                                 if (!wrongWord.isEmpty() && !correctWord.isEmpty()) {
-                                    savedWords.put(wrongWord, correctWord);
+                                    putSavedWord(wrongWord, correctWord);
                                     count++;
                                 }
                             }
@@ -1487,12 +6367,11 @@ public class TurkishSpellCheckerSimple extends JFrame {
                     
                     // Tabloyu güncelle
                     tableModel.setRowCount(0);
-                    List<java.util.Map.Entry<String, String>> newEntries = new ArrayList<>(savedWords.entrySet());
+                    List<java.util.Map.Entry<String, String>> newEntries = new ArrayList<>(savedWords.snapshot());
                     Collections.reverse(newEntries);
                     for (java.util.Map.Entry<String, String> entry : newEntries) {
                         tableModel.addRow(new Object[]{entry.getKey(), entry.getValue()});
                     }
-                    saveSavedWordsIfEnabled();
                     JOptionPane.showMessageDialog(dialog, count + " yeni kelime iceri aktarildi.", "Basarili", JOptionPane.INFORMATION_MESSAGE);
 
                 } catch (IOException ex) {
@@ -1501,12 +6380,16 @@ public class TurkishSpellCheckerSimple extends JFrame {
             }
         });
 
+        JButton sharedDictionaryButton = new JButton("Ortak Sozluk");
+        sharedDictionaryButton.addActionListener(e -> showSharedDictionaryOptions(dialog));
+
         JPanel buttonPanel = new JPanel(new FlowLayout());
         buttonPanel.add(addButton);
         buttonPanel.add(importButton);
         buttonPanel.add(exportButton);
         buttonPanel.add(removeButton);
         buttonPanel.add(clearButton);
+        buttonPanel.add(sharedDictionaryButton);
 
         dialog.add(scrollPane, BorderLayout.CENTER);
         dialog.add(buttonPanel, BorderLayout.SOUTH);
@@ -1514,6 +6397,67 @@ public class TurkishSpellCheckerSimple extends JFrame {
         dialog.setVisible(true);
     }
     
+    // Ortak (ikili) sözlüğü metin dosyasından derler veya metne aktarır
+    private void showSharedDictionaryOptions(JDialog parent) {
+        SortedStringTable current = sharedDictionary;
+        String[] options = {"Metinden Derle", "Metne Aktar", "Iptal"};
+        int choice = JOptionPane.showOptionDialog(parent,
+            "Ortak sozluk: " + (current == null ? "yok" : current.size() + " girdi") + "\n" +
+            "Buyuk duzeltme listeleri '" + SHARED_DICTIONARY_FILE + "' olarak derlenir;\n" +
+            "bellege tamamen yuklenmeden sorgulanir. Kayitli kelimeler her zaman onceliklidir.",
+            "Ortak Sozluk",
+            JOptionPane.YES_NO_CANCEL_OPTION,
+            JOptionPane.QUESTION_MESSAGE,
+            null,
+            options,
+            options[0]);
+        
+        if (choice == 0) {
+            JFileChooser fileChooser = new JFileChooser(new File("KayitliKelimeler"));
+            fileChooser.setDialogTitle("Derlenecek Duzeltme Listesi");
+            fileChooser.setFileFilter(new FileNameExtensionFilter("Metin Dosyalari (*.txt)", "txt"));
+            if (fileChooser.showOpenDialog(parent) == JFileChooser.APPROVE_OPTION) {
+                try {
+                    File target = new File(SHARED_DICTIONARY_FILE);
+                    // Açık (eşlenmiş) sözlüğün üzerine yazılamayabilir; yeni sürüm önce yanına yazılır
+                    File pending = new File(SHARED_DICTIONARY_FILE + ".yeni");
+                    int count = compileSharedDictionary(fileChooser.getSelectedFile(), pending);
+                    String note = "";
+                    try {
+                        Files.move(pending.toPath(), target.toPath(), java.nio.file.StandardCopyOption.REPLACE_EXISTING);
+                        sharedDictionary = openSharedDictionary();
+                        onDictionaryChanged(null);
+                    } catch (IOException moveError) {
+                        note = "\nYeni sozluk uygulama yeniden baslatildiginda kullanilacak.";
+                    }
+                    JOptionPane.showMessageDialog(parent, count + " girdi ortak sozluge derlendi." + note, "Basarili", JOptionPane.INFORMATION_MESSAGE);
+                } catch (IOException ex) {
+                    JOptionPane.showMessageDialog(parent, "Sozluk derlenirken hata olustu: " + ex.getMessage(), "Hata", JOptionPane.ERROR_MESSAGE);
+                }
+            }
+        } else if (choice == 1) {
+            if (current == null) {
+                JOptionPane.showMessageDialog(parent, "Ortak sozluk bulunamadi.", "Uyari", JOptionPane.WARNING_MESSAGE);
+                return;
+            }
+            JFileChooser fileChooser = new JFileChooser(new File("KayitliKelimeler"));
+            fileChooser.setDialogTitle("Ortak Sozlugu Metne Aktar");
+            fileChooser.setFileFilter(new FileNameExtensionFilter("Metin Dosyalari (*.txt)", "txt"));
+            if (fileChooser.showSaveDialog(parent) == JFileChooser.APPROVE_OPTION) {
+                File fileToSave = fileChooser.getSelectedFile();
+                if (!fileToSave.getName().toLowerCase().endsWith(".txt")) {
+                    fileToSave = new File(fileToSave.getParentFile(), fileToSave.getName() + ".txt");
+                }
+                try {
+                    int count = exportSharedDictionary(new File(SHARED_DICTIONARY_FILE), fileToSave);
+                    JOptionPane.showMessageDialog(parent, count + " girdi disari aktarildi: " + fileToSave.getName(), "Basarili", JOptionPane.INFORMATION_MESSAGE);
+                } catch (IOException ex) {
+                    JOptionPane.showMessageDialog(parent, "Dosya yazilirken hata olustu: " + ex.getMessage(), "Hata", JOptionPane.ERROR_MESSAGE);
+                }
+            }
+        }
+    }
+    
     private void showWorkspaceDialog() {
         JDialog dialog = new JDialog(this, "Calisma Alanlari", true);
         dialog.setLayout(new BorderLayout(10, 10));
@@ -1659,6 +6603,7 @@ public class TurkishSpellCheckerSimple extends JFrame {
                 tarandiDir.mkdir();
 
                 // 2. Uygulama durumunu yeni çalışma alanına ayarla
+                cancelPrescan();
                 selectedFiles.clear();
                 fileListModel.clear();
                 currentWorkspaceName = workspaceDirName;
@@ -1684,6 +6629,8 @@ public class TurkishSpellCheckerSimple extends JFrame {
                 currentFileIndex = 0;
                 currentIncorrectWordIndex = 0;
                 pausedIncorrectWordIndex = 0;
+                pausedChunkIndex = 0;
+                spellCheckScheduler.cancel();
                 isRunning.set(false);
                 isPaused.set(false);
                 startButton.setEnabled(true);
@@ -1714,6 +6661,7 @@ public class TurkishSpellCheckerSimple extends JFrame {
                 return;
             }
             
+            cancelPrescan();
             selectedFiles.clear();
             fileListModel.clear();
 
@@ -1759,6 +6707,8 @@ public class TurkishSpellCheckerSimple extends JFrame {
                 currentFileIndex = 0;
                 currentIncorrectWordIndex = 0;
                 pausedIncorrectWordIndex = 0;
+                pausedChunkIndex = 0;
+                spellCheckScheduler.cancel();
                 isRunning.set(false);
                 isPaused.set(false);
                 startButton.setEnabled(true);
@@ -1784,7 +6734,8 @@ public class TurkishSpellCheckerSimple extends JFrame {
         try {
             File workspaceDir = new File("Calismalarim", workspaceName);
             if (workspaceDir.exists()) {
-                // Klasörü ve içindekileri sil
+                // Açık düzeltme günlüğü varsa kapat (Windows'ta açık dosya silinemez), sonra klasörü ve içindekileri sil
+                closeCorrectionLog(workspaceDir);
                 deleteDirectory(workspaceDir);
                 JOptionPane.showMessageDialog(this, 
                     "Calisma alani '" + workspaceName + "' basariyla silindi.", 
@@ -1844,7 +6795,7 @@ public class TurkishSpellCheckerSimple extends JFrame {
         // Auto Save ayari (Elenenler)
         JPanel autoSavePanel = new JPanel(new BorderLayout(5, 0));
         JLabel autoSaveLabel = new JLabel("Elenenler listesini otomatik kaydet:");
-        autoSaveCheckBoxRef[0] = new JCheckBox("Elenenler listesi degistiginde 'Elenenler/elenenler.txt' dosyasina otomatik kaydet");
+        autoSaveCheckBoxRef[0] = new JCheckBox("Elenenler listesindeki her degisiklik hemen diske yazilsin");
         autoSaveCheckBoxRef[0].setSelected(autoSaveEliminatedWords);
         autoSaveCheckBoxRef[0].addActionListener(e -> {
             autoSaveEliminatedWords = autoSaveCheckBoxRef[0].isSelected();
@@ -1852,6 +6803,7 @@ public class TurkishSpellCheckerSimple extends JFrame {
                 saveOnlyOnExitCheckBoxRef[0].setSelected(false);
                 saveOnlyOnExit = false;
             }
+            applyJournalSyncSettings();
         });
         autoSavePanel.add(autoSaveLabel, BorderLayout.NORTH);
         autoSavePanel.add(autoSaveCheckBoxRef[0], BorderLayout.CENTER);
@@ -1859,7 +6811,7 @@ public class TurkishSpellCheckerSimple extends JFrame {
         // Save Only On Exit ayari (Elenenler)
         JPanel saveOnlyOnExitPanel = new JPanel(new BorderLayout(5, 0));
         JLabel saveOnlyOnExitLabel = new JLabel("Sadece uygulama kapanirken kaydet:");
-        saveOnlyOnExitCheckBoxRef[0] = new JCheckBox("Elenenler listesi sadece uygulama kapanirken kaydedilsin");
+        saveOnlyOnExitCheckBoxRef[0] = new JCheckBox("Degisiklikler gruplanarak (en gec 1 sn) gunluge yazilsin, 'Elenenler/elenenler.txt' kapanirken guncellensin");
         saveOnlyOnExitCheckBoxRef[0].setSelected(saveOnlyOnExit);
         saveOnlyOnExitCheckBoxRef[0].addActionListener(e -> {
             saveOnlyOnExit = saveOnlyOnExitCheckBoxRef[0].isSelected();
@@ -1867,6 +6819,7 @@ public class TurkishSpellCheckerSimple extends JFrame {
                 autoSaveCheckBoxRef[0].setSelected(false);
                 autoSaveEliminatedWords = false;
             }
+            applyJournalSyncSettings();
         });
         saveOnlyOnExitPanel.add(saveOnlyOnExitLabel, BorderLayout.NORTH);
         saveOnlyOnExitPanel.add(saveOnlyOnExitCheckBoxRef[0], BorderLayout.CENTER);
@@ -1891,7 +6844,7 @@ public class TurkishSpellCheckerSimple extends JFrame {
         // Auto Save ayari (Kayıtlı Kelimeler)
         JPanel autoSaveSavedPanel = new JPanel(new BorderLayout(5, 0));
         JLabel autoSaveSavedLabel = new JLabel("Kayitli kelimeleri otomatik kaydet:");
-        autoSaveSavedCheckBoxRef[0] = new JCheckBox("Kayitli kelimeler degistiginde 'KayitliKelimeler/kayitlikelimeler.txt' dosyasina otomatik kaydet");
+        autoSaveSavedCheckBoxRef[0] = new JCheckBox("Kayitli kelimelerdeki her degisiklik hemen diske yazilsin");
         autoSaveSavedCheckBoxRef[0].setSelected(autoSaveSavedWords);
         autoSaveSavedCheckBoxRef[0].addActionListener(e -> {
             autoSaveSavedWords = autoSaveSavedCheckBoxRef[0].isSelected();
@@ -1899,6 +6852,7 @@ public class TurkishSpellCheckerSimple extends JFrame {
                 saveSavedWordsOnlyOnExitCheckBoxRef[0].setSelected(false);
                 saveSavedWordsOnlyOnExit = false;
             }
+            applyJournalSyncSettings();
         });
         autoSaveSavedPanel.add(autoSaveSavedLabel, BorderLayout.NORTH);
         autoSaveSavedPanel.add(autoSaveSavedCheckBoxRef[0], BorderLayout.CENTER);
@@ -1906,7 +6860,7 @@ public class TurkishSpellCheckerSimple extends JFrame {
         // Save Only On Exit ayari (Kayıtlı Kelimeler)
         JPanel saveSavedWordsOnlyOnExitPanel = new JPanel(new BorderLayout(5, 0));
         JLabel saveSavedWordsOnlyOnExitLabel = new JLabel("Sadece uygulama kapanirken kaydet:");
-        saveSavedWordsOnlyOnExitCheckBoxRef[0] = new JCheckBox("Kayitli kelimeler sadece uygulama kapanirken kaydedilsin");
+        saveSavedWordsOnlyOnExitCheckBoxRef[0] = new JCheckBox("Degisiklikler gruplanarak (en gec 1 sn) gunluge yazilsin, 'KayitliKelimeler/kayitlikelimeler.txt' kapanirken guncellensin");
         saveSavedWordsOnlyOnExitCheckBoxRef[0].setSelected(saveSavedWordsOnlyOnExit);
         saveSavedWordsOnlyOnExitCheckBoxRef[0].addActionListener(e -> {
             saveSavedWordsOnlyOnExit = saveSavedWordsOnlyOnExitCheckBoxRef[0].isSelected();
@@ -1914,6 +6868,7 @@ public class TurkishSpellCheckerSimple extends JFrame {
                 autoSaveSavedCheckBoxRef[0].setSelected(false);
                 autoSaveSavedWords = false;
             }
+            applyJournalSyncSettings();
         });
         saveSavedWordsOnlyOnExitPanel.add(saveSavedWordsOnlyOnExitLabel, BorderLayout.NORTH);
         saveSavedWordsOnlyOnExitPanel.add(saveSavedWordsOnlyOnExitCheckBoxRef[0], BorderLayout.CENTER);
@@ -1953,6 +6908,12 @@ public class TurkishSpellCheckerSimple extends JFrame {
                 writer.newLine();
                 writer.write("saveSavedWordsOnlyOnExit=" + String.valueOf(saveSavedWordsOnlyOnExit));
                 writer.newLine();
+                writer.write("streamingThresholdMB=" + String.valueOf(streamingThresholdMB));
+                writer.newLine();
+                writer.write("memoryMappedReader=" + String.valueOf(memoryMappedReader));
+                writer.newLine();
+                writer.write("liveSpellCheck=" + String.valueOf(liveSpellCheck));
+                writer.newLine();
                 writer.write("lastFileChooserDirectory=" + lastFileChooserDirectory.getAbsolutePath());
                 writer.newLine();
                 
@@ -2065,6 +7026,9 @@ public class TurkishSpellCheckerSimple extends JFrame {
             settings.setProperty("autoSaveSavedWords", String.valueOf(autoSaveSavedWords));
             settings.setProperty("saveSavedWordsOnlyOnExit", String.valueOf(saveSavedWordsOnlyOnExit));
             settings.setProperty("showGuideOnStartup", String.valueOf(showGuideOnStartup));
+            settings.setProperty("streamingThresholdMB", String.valueOf(streamingThresholdMB));
+            settings.setProperty("memoryMappedReader", String.valueOf(memoryMappedReader));
+            settings.setProperty("liveSpellCheck", String.valueOf(liveSpellCheck));
             settings.setProperty("lastFileChooserDirectory", lastFileChooserDirectory.getAbsolutePath());
 
             // Manuel olarak ayarları istenen sırayla yaz
@@ -2086,6 +7050,12 @@ public class TurkishSpellCheckerSimple extends JFrame {
             writer.newLine();
             writer.write("showGuideOnStartup=" + settings.getProperty("showGuideOnStartup"));
             writer.newLine();
+            writer.write("streamingThresholdMB=" + settings.getProperty("streamingThresholdMB"));
+            writer.newLine();
+            writer.write("memoryMappedReader=" + settings.getProperty("memoryMappedReader"));
+            writer.newLine();
+            writer.write("liveSpellCheck=" + settings.getProperty("liveSpellCheck"));
+            writer.newLine();
             writer.write("lastFileChooserDirectory=" + lastFileChooserDirectory.getAbsolutePath());
             writer.newLine();
         } catch (IOException e) {
@@ -2098,6 +7068,44 @@ public class TurkishSpellCheckerSimple extends JFrame {
         System.setProperty("file.encoding", "UTF-8");
         System.setProperty("sun.jnu.encoding", "UTF-8");
         
+        // Toplu mod: Swing kullanılmaz, sunucu ve konteynerlerde java.awt.headless=true ile çalışır
+        if (args.length > 0 && args[0].equals("--batch")) {
+            System.setProperty("java.awt.headless", "true");
+            System.exit(BatchRunner.runFromArgs(args));
+        }
+        
+        // Yerel HTTP servisi (arayüz açılmaz, süreç kapatılana kadar çalışır)
+        if (args.length > 0 && args[0].equals("--server")) {
+            System.setProperty("java.awt.headless", "true");
+            int status = SpellCheckServer.runFromArgs(args);
+            if (status != BatchRunner.EXIT_OK) {
+                System.exit(status);
+            }
+            return;
+        }
+        
+        // Ortak sözlük araçları: metinden ikiliye derleme, ikiliden metne aktarma, yükleme karşılaştırması
+        if (args.length > 0 && args[0].startsWith("--sozluk-")) {
+            System.exit(runDictionaryTool(args));
+        }
+        
+        // Yazım denetimi sıcak yolunun ölçümü (arayüz açılmaz)
+        if (args.length > 0 && args[0].equals("--olcum")) {
+            System.setProperty("java.awt.headless", "true");
+            System.exit(SpellCheckBenchmark.runFromArgs(args));
+        }
+        
+        // Okuma hızı karşılaştırması (arayüz açılmaz)
+        if (args.length == 2 && args[0].equals("--okuma-karsilastir")) {
+            try {
+                compareReadThroughput(new File(args[1]));
+            } catch (IOException e) {
+                System.err.println("Dosya okunurken hata: " + e.getMessage());
+                System.exit(1);
+            }
+            return;
+        }
+        
         // Swing uygulamasını EDT'de çalıştır
         SwingUtilities.invokeLater(() -> {
             try {